@@ -0,0 +1,70 @@
+package com.eze_dev.torneos.benchmark;
+
+import com.eze_dev.torneos.dto.response.MatchResponseDto;
+import com.eze_dev.torneos.dto.response.PairResponseDto;
+import com.eze_dev.torneos.dto.response.TournamentResponseDto;
+import com.eze_dev.torneos.mapper.MatchMapper;
+import com.eze_dev.torneos.mapper.PairMapper;
+import com.eze_dev.torneos.mapper.TournamentMapper;
+import com.eze_dev.torneos.model.Tournament;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Los mappers de MapStruct usan componentModel = "spring", así que se obtienen de un contexto mínimo
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({"4", "16", "64", "256"})
+    private int pairs;
+
+    private AnnotationConfigApplicationContext context;
+    private TournamentMapper tournamentMapper;
+    private MatchMapper matchMapper;
+    private PairMapper pairMapper;
+
+    private Tournament tournament;
+
+    @Setup
+    public void setUp() {
+        // Sin la configuración de Spring Boot, logback loguea en DEBUG y el log ensucia la medición
+        ((Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+
+        context = new AnnotationConfigApplicationContext("com.eze_dev.torneos.mapper");
+        tournamentMapper = context.getBean(TournamentMapper.class);
+        matchMapper = context.getBean(MatchMapper.class);
+        pairMapper = context.getBean(PairMapper.class);
+
+        tournament = TournamentFixtures.completedRoundRobin(pairs, 42L);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TournamentResponseDto tournamentToDto() {
+        return tournamentMapper.toDto(tournament);
+    }
+
+    @Benchmark
+    public List<MatchResponseDto> matchesToDtoList() {
+        return matchMapper.toDtoList(tournament.getMatches());
+    }
+
+    @Benchmark
+    public List<PairResponseDto> pairsToDtoList() {
+        return pairMapper.toDtoList(tournament.getPairs());
+    }
+}
@@ -0,0 +1,51 @@
+package com.eze_dev.torneos.benchmark;
+
+import com.eze_dev.torneos.model.Match;
+import com.eze_dev.torneos.model.Tournament;
+import com.eze_dev.torneos.scheduling.MatchScheduler;
+import com.eze_dev.torneos.scheduling.ScheduleOptions;
+import com.eze_dev.torneos.strategy.tournament.RoundRobinStrategy;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 32 parejas todos contra todos son 496 partidos: el caso de replanificar una jornada completa
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatchSchedulerBenchmark {
+
+    @Param({"8", "16", "32"})
+    private int pairs;
+
+    @Param({"2", "6"})
+    private int courts;
+
+    private final MatchScheduler matchScheduler = new MatchScheduler(4, 60, 0);
+
+    private List<Match> matches;
+    private ScheduleOptions options;
+
+    @Setup
+    public void setUp() {
+        Tournament tournament = TournamentFixtures.tournamentWithPairs(pairs);
+        matches = new RoundRobinStrategy(4, 60).generateMatches(tournament);
+        options = new ScheduleOptions(LocalDateTime.of(2025, 1, 1, 9, 0), courts, 60, 30);
+    }
+
+    @Benchmark
+    public List<Match> schedule() {
+        matchScheduler.schedule(matches, options);
+        return matches;
+    }
+
+    @Benchmark
+    public boolean validate() {
+        return matchScheduler.hasPlayerOverlap(matches, options.slotMinutes());
+    }
+}
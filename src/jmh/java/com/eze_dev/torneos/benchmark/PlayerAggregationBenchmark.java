@@ -0,0 +1,98 @@
+package com.eze_dev.torneos.benchmark;
+
+import com.eze_dev.torneos.model.Match;
+import com.eze_dev.torneos.model.Tournament;
+import com.eze_dev.torneos.repository.*;
+import com.eze_dev.torneos.service.implementations.PlayerStandingService;
+import com.eze_dev.torneos.strategy.tournament.QuadrangularStrategy;
+import com.eze_dev.torneos.strategy.tournament.TournamentStrategyFactory;
+import com.eze_dev.torneos.types.MatchStatus;
+import com.eze_dev.torneos.types.TournamentStatus;
+import com.eze_dev.torneos.types.TournamentType;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.*;
+
+// Mide sólo la agregación en memoria de los rebuilds: los repositorios son stubs sin base de datos.
+// stubOnly evita que Mockito guarde cada invocación y la memoria crezca entre iteraciones.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlayerAggregationBenchmark {
+
+    @Param({"4", "16", "64", "256"})
+    private int pairs;
+
+    // Con varios torneos el rebuild de rankings reparte el cálculo entre los núcleos
+    @Param({"1", "32"})
+    private int tournaments;
+
+    private PlayerStandingService playerStandingService;
+
+    @Setup
+    public void setUp() {
+        // Sin la configuración de Spring Boot, logback loguea en DEBUG y el log ensucia la medición
+        ((Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+
+        List<Tournament> finished = new ArrayList<>();
+        List<Match> completed = new ArrayList<>();
+
+        for (int i = 0; i < tournaments; i++) {
+            Tournament tournament = TournamentFixtures.completedRoundRobin(pairs, 42L + i);
+            tournament.setStatus(TournamentStatus.FINISHED);
+            finished.add(tournament);
+            completed.addAll(tournament.getMatches());
+        }
+
+        MatchRepository matchRepository = mock(MatchRepository.class, withSettings().stubOnly());
+        TournamentRepository tournamentRepository = mock(TournamentRepository.class, withSettings().stubOnly());
+        PlayerStandingRepository playerStandingRepository = mock(PlayerStandingRepository.class, withSettings().stubOnly());
+        PlayerRankingPointsRepository playerRankingPointsRepository = mock(PlayerRankingPointsRepository.class, withSettings().stubOnly());
+
+        when(matchRepository.findByStatusWithPlayers(MatchStatus.COMPLETED)).thenReturn(completed);
+        when(tournamentRepository.findSnapshotRowsByStatus(TournamentStatus.FINISHED)).thenReturn(finished.stream()
+                .flatMap(tournament -> TournamentFixtures.snapshotRows(tournament).stream())
+                .toList());
+        when(playerStandingRepository.saveAll(anyIterable())).thenReturn(List.of());
+        when(playerRankingPointsRepository.saveAll(anyIterable())).thenReturn(List.of());
+
+        TournamentStrategyFactory tournamentStrategyFactory = mock(TournamentStrategyFactory.class, withSettings().stubOnly());
+        when(tournamentStrategyFactory.getStrategy(TournamentType.QUADRANGULAR)).thenReturn(new QuadrangularStrategy());
+
+        playerStandingService = new PlayerStandingService(
+                mock(PlayerRepository.class, withSettings().stubOnly()),
+                playerStandingRepository,
+                playerRankingPointsRepository,
+                matchRepository,
+                tournamentRepository,
+                tournamentStrategyFactory,
+                null
+        );
+    }
+
+    @TearDown
+    public void tearDown() {
+        playerStandingService.shutdown();
+    }
+
+    @Benchmark
+    public void rebuildPlayerStandings() {
+        playerStandingService.rebuildPlayerStandings();
+    }
+
+    @Benchmark
+    public void rebuildPlayerRankings() {
+        playerStandingService.rebuildPlayerRankings();
+    }
+}
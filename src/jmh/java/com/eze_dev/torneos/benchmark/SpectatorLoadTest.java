@@ -0,0 +1,202 @@
+package com.eze_dev.torneos.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// Prueba de carga contra la app levantada: N espectadores que consultan las posiciones de un mismo torneo
+// en bucle, con If-None-Match como haría un navegador. Arma el torneo por la API y mide latencias y throughput.
+// mvn -Pbenchmarks test-compile exec:exec -Dbench.main=com.eze_dev.torneos.benchmark.SpectatorLoadTest \
+//     -Djmh.args="http://localhost:8080 2000 30 250"   (url, espectadores, segundos, pausa entre consultas en ms)
+// Para comparar, levantar la app con spring.threads.virtual.enabled=true y =false
+public final class SpectatorLoadTest {
+
+    private static final int PAIRS = 4;
+    private static final int WARMUP_SECONDS = 10;
+    // Histograma de latencias en buckets de 250 µs hasta 60 s
+    private static final int BUCKET_MICROS = 250;
+    private static final int BUCKETS = 240_000;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String baseUrl;
+
+    private SpectatorLoadTest(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080";
+        int spectators = args.length > 1 ? Integer.parseInt(args[1]) : 2_000;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 30;
+        long thinkMs = args.length > 3 ? Long.parseLong(args[3]) : 250;
+
+        SpectatorLoadTest test = new SpectatorLoadTest(baseUrl);
+        String standingsUrl = baseUrl + "/api/v1/tournaments/" + test.createStartedTournament() + "/standings";
+
+        System.out.printf("Warmup: %d spectators for %d s%n", spectators, WARMUP_SECONDS);
+        test.run(standingsUrl, spectators, WARMUP_SECONDS, thinkMs);
+
+        System.out.printf("Measurement: %d spectators for %d s, %d ms between polls%n", spectators, seconds, thinkMs);
+        test.run(standingsUrl, spectators, seconds, thinkMs).print(seconds);
+    }
+
+    private Result run(String url, int spectators, int seconds, long thinkMs) throws InterruptedException {
+        Result result = new Result();
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+        CountDownLatch done = new CountDownLatch(spectators);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < spectators; i++) {
+                executor.execute(() -> {
+                    try {
+                        poll(url, deadline, thinkMs, result);
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+
+            done.await();
+        }
+
+        return result;
+    }
+
+    private void poll(String url, long deadline, long thinkMs, Result result) {
+        String etag = null;
+
+        while (System.nanoTime() < deadline) {
+            HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url)).timeout(Duration.ofSeconds(30)).GET();
+            if (etag != null) {
+                request.header("If-None-Match", etag);
+            }
+
+            long start = System.nanoTime();
+            try {
+                HttpResponse<Void> response = client.send(request.build(), HttpResponse.BodyHandlers.discarding());
+                result.record(System.nanoTime() - start, response.statusCode());
+                etag = response.headers().firstValue("ETag").orElse(etag);
+            } catch (Exception ex) {
+                result.record(System.nanoTime() - start, -1);
+            }
+
+            if (thinkMs > 0) {
+                try {
+                    Thread.sleep(thinkMs);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private UUID createStartedTournament() throws Exception {
+        String suffix = String.valueOf(System.currentTimeMillis() % 10_000_000);
+        UUID tournamentId = id(send("POST", "/api/v1/tournaments", Map.of(
+                "name", "Load " + suffix,
+                "startDate", LocalDateTime.now().plusDays(1).toString(),
+                "endDate", LocalDateTime.now().plusDays(2).toString(),
+                "address", "Club",
+                "winningMatchRule", "ONE_SET_TO_6",
+                "tournamentType", "QUADRANGULAR",
+                "categoryType", "FIRST",
+                "genderType", "MASCULINE")));
+
+        for (int i = 0; i < PAIRS; i++) {
+            UUID player1 = createPlayer(suffix + "1" + i);
+            UUID player2 = createPlayer(suffix + "2" + i);
+            UUID pair = id(send("POST", "/api/v1/tournaments/pairs", Map.of(
+                    "player1Id", player1, "player2Id", player2, "teamName", "Load " + suffix + "-" + i)));
+
+            send("PUT", "/api/v1/tournaments/" + tournamentId + "/pairs/" + pair, null);
+        }
+
+        send("PUT", "/api/v1/tournaments/" + tournamentId + "/start", null);
+        return tournamentId;
+    }
+
+    private UUID createPlayer(String dni) throws Exception {
+        return id(send("POST", "/api/v1/players", Map.of(
+                "name", "Load", "lastName", "Spectator", "genderType", "MASCULINE",
+                "dni", dni, "phoneNumber", "1100000000")));
+    }
+
+    private JsonNode send(String method, String path, Object body) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .method(method, body == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+
+        if (response.statusCode() >= 300) {
+            throw new IllegalStateException(method + " " + path + " -> " + response.statusCode() + ": " + response.body());
+        }
+
+        return response.body().isEmpty() ? null : objectMapper.readTree(response.body());
+    }
+
+    private static UUID id(JsonNode node) {
+        return UUID.fromString(node.get("id").asText());
+    }
+
+    private static final class Result {
+
+        private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+        private final LongAdder ok = new LongAdder();
+        private final LongAdder notModified = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+
+        private void record(long nanos, int status) {
+            histogram.incrementAndGet((int) Math.min(BUCKETS - 1, nanos / 1_000 / BUCKET_MICROS));
+
+            switch (status) {
+                case 200 -> ok.increment();
+                case 304 -> notModified.increment();
+                default -> errors.increment();
+            }
+        }
+
+        private void print(int seconds) {
+            long total = ok.sum() + notModified.sum() + errors.sum();
+
+            System.out.printf("requests=%d (200=%d, 304=%d, errors=%d) throughput=%.0f req/s%n",
+                    total, ok.sum(), notModified.sum(), errors.sum(), (double) total / seconds);
+            System.out.printf("p50=%.1f ms p90=%.1f ms p99=%.1f ms p99.9=%.1f ms%n",
+                    percentile(total, 0.50), percentile(total, 0.90), percentile(total, 0.99), percentile(total, 0.999));
+        }
+
+        private double percentile(long total, double quantile) {
+            long target = (long) Math.ceil(total * quantile);
+            long seen = 0;
+
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += histogram.get(i);
+                if (seen >= target) {
+                    return (i + 1) * BUCKET_MICROS / 1_000.0;
+                }
+            }
+
+            return BUCKETS * BUCKET_MICROS / 1_000.0;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.eze_dev.torneos.benchmark;
+
+import com.eze_dev.torneos.model.snapshot.MatchSnapshot;
+import com.eze_dev.torneos.model.snapshot.PairSnapshot;
+import com.eze_dev.torneos.model.snapshot.TournamentSnapshot;
+import com.eze_dev.torneos.strategy.tournament.PairStanding;
+import com.eze_dev.torneos.strategy.tournament.StandingsTable;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Compara el cálculo de posiciones con búsqueda lineal por pareja (implementación anterior) contra StandingsTable
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StandingsBenchmark {
+
+    @Param({"4", "16", "64", "256"})
+    private int pairs;
+
+    private TournamentSnapshot tournament;
+
+    @Setup
+    public void setUp() {
+        tournament = TournamentSnapshot.of(TournamentFixtures.completedRoundRobin(pairs, 42L));
+    }
+
+    @Benchmark
+    public List<PairStanding> linearScan() {
+        List<PairStanding> standings = new ArrayList<>();
+
+        for (PairSnapshot pair : tournament.pairs()) {
+            standings.add(new PairStanding(pair, 0, 0, 0, 0, 0, 0));
+        }
+
+        for (MatchSnapshot match : tournament.matches()) {
+            if (!match.completed()) {
+                continue;
+            }
+
+            PairStanding ps1 = findStandingByPair(standings, tournament.pair(match.pair1()).id());
+            PairStanding ps2 = findStandingByPair(standings, tournament.pair(match.pair2()).id());
+
+            ps1.setMatchesPlayed(ps1.getMatchesPlayed() + 1);
+            ps2.setMatchesPlayed(ps2.getMatchesPlayed() + 1);
+
+            int score1 = match.pair1Score();
+            int score2 = match.pair2Score();
+
+            ps1.setGamesWon(ps1.getGamesWon() + score1);
+            ps1.setGamesLost(ps1.getGamesLost() + score2);
+
+            ps2.setGamesWon(ps2.getGamesWon() + score2);
+            ps2.setGamesLost(ps2.getGamesLost() + score1);
+
+            if (score1 > score2) {
+                ps1.setWins(ps1.getWins() + 1);
+                ps2.setLosses(ps2.getLosses() + 1);
+            } else if (score2 > score1) {
+                ps2.setWins(ps2.getWins() + 1);
+                ps1.setLosses(ps1.getLosses() + 1);
+            }
+        }
+
+        standings.sort(StandingsTable.RANKING_ORDER);
+        return standings;
+    }
+
+    @Benchmark
+    public List<PairStanding> standingsTable() {
+        StandingsTable table = new StandingsTable(tournament.pairs());
+        table.recordAll(tournament.matches());
+
+        return table.toSortedList();
+    }
+
+    private PairStanding findStandingByPair(List<PairStanding> standings, UUID pairId) {
+        return standings.stream()
+                .filter(ps -> ps.getPair().id().equals(pairId))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Pair not found in standings"));
+    }
+}
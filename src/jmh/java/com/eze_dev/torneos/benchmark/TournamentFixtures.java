@@ -0,0 +1,114 @@
+package com.eze_dev.torneos.benchmark;
+
+import com.eze_dev.torneos.model.Match;
+import com.eze_dev.torneos.model.Pair;
+import com.eze_dev.torneos.model.Player;
+import com.eze_dev.torneos.model.Tournament;
+import com.eze_dev.torneos.repository.projection.TournamentSnapshotRow;
+import com.eze_dev.torneos.types.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+// Torneos sintéticos en memoria, con ids asignados, para los benchmarks
+final class TournamentFixtures {
+
+    private TournamentFixtures() {
+    }
+
+    static Tournament tournamentWithPairs(int pairCount) {
+        List<Pair> pairs = new ArrayList<>(pairCount);
+
+        for (int i = 0; i < pairCount; i++) {
+            pairs.add(Pair.builder()
+                    .id(UUID.randomUUID())
+                    .teamName("Team " + i)
+                    .player1(player(i * 2))
+                    .player2(player(i * 2 + 1))
+                    .build());
+        }
+
+        return Tournament.builder()
+                .id(UUID.randomUUID())
+                .name("Benchmark " + pairCount)
+                .startDate(LocalDateTime.of(2025, 1, 1, 9, 0))
+                .winningMatchRule(WinningMatchRuleType.ONE_SET_TO_6)
+                .tournamentType(TournamentType.QUADRANGULAR)
+                .categoryType(CategoryType.FIRST)
+                .genderType(GenderType.MASCULINE)
+                .status(TournamentStatus.IN_PROGRESS)
+                .pairs(new LinkedHashSet<>(pairs))
+                .build();
+    }
+
+    // Todos contra todos con todos los partidos completados y resultados válidos a un set
+    static Tournament completedRoundRobin(int pairCount, long seed) {
+        Tournament tournament = tournamentWithPairs(pairCount);
+        List<Pair> pairs = new ArrayList<>(tournament.getPairs());
+        Random random = new Random(seed);
+
+        for (int i = 0; i < pairs.size(); i++) {
+            for (int j = i + 1; j < pairs.size(); j++) {
+                int loserGames = random.nextInt(5);
+                boolean firstWins = random.nextBoolean();
+
+                tournament.getMatches().add(Match.builder()
+                        .id(UUID.randomUUID())
+                        .tournament(tournament)
+                        .pair1(pairs.get(i))
+                        .pair2(pairs.get(j))
+                        .pair1Score(firstWins ? 6 : loserGames)
+                        .pair2Score(firstWins ? loserGames : 6)
+                        .scheduledDate(tournament.getStartDate())
+                        .status(MatchStatus.COMPLETED)
+                        .build());
+            }
+        }
+
+        return tournament;
+    }
+
+    // Las filas que devolvería TournamentRepository.findSnapshotRowsById para el torneo
+    static List<TournamentSnapshotRow> snapshotRows(Tournament tournament) {
+        List<TournamentSnapshotRow> rows = new ArrayList<>();
+
+        for (Pair pair : tournament.getPairs()) {
+            List<Match> asPair1 = tournament.getMatches().stream()
+                    .filter(match -> match.getPair1() == pair)
+                    .toList();
+
+            if (asPair1.isEmpty()) {
+                rows.add(row(tournament, pair, null));
+            }
+            asPair1.forEach(match -> rows.add(row(tournament, pair, match)));
+        }
+
+        return rows;
+    }
+
+    private static TournamentSnapshotRow row(Tournament tournament, Pair pair, Match match) {
+        return new TournamentSnapshotRow(tournament.getId(), tournament.getVersion(), tournament.getTournamentType(),
+                tournament.getCategoryType(), tournament.getGenderType(), tournament.getStatus(),
+                pair.getId(), pair.getTeamName(), pair.getPlayer1().getId(), pair.getPlayer2().getId(),
+                match != null ? match.getId() : null,
+                match != null && match.getPair2() != null ? match.getPair2().getId() : null,
+                match != null ? match.getPair1Score() : null, match != null ? match.getPair2Score() : null,
+                match != null ? match.getStatus() : null, match != null ? match.getRound() : null,
+                match != null ? match.getBracketPosition() : null, match != null ? match.getGroupNumber() : null);
+    }
+
+    private static Player player(int index) {
+        return Player.builder()
+                .id(UUID.randomUUID())
+                .name("Player")
+                .lastName(String.valueOf(index))
+                .genderType(GenderType.MASCULINE)
+                .dni(String.valueOf(10_000_000 + index))
+                .phoneNumber("1100000000")
+                .build();
+    }
+}
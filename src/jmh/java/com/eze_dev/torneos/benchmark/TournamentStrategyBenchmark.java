@@ -0,0 +1,59 @@
+package com.eze_dev.torneos.benchmark;
+
+import com.eze_dev.torneos.model.Match;
+import com.eze_dev.torneos.model.Tournament;
+import com.eze_dev.torneos.model.snapshot.TournamentSnapshot;
+import com.eze_dev.torneos.strategy.tournament.PairStanding;
+import com.eze_dev.torneos.strategy.tournament.QuadrangularStrategy;
+import com.eze_dev.torneos.strategy.tournament.RoundRobinStrategy;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TournamentStrategyBenchmark {
+
+    @Param({"4", "16", "64", "256"})
+    private int pairs;
+
+    private final QuadrangularStrategy quadrangularStrategy = new QuadrangularStrategy();
+    private final RoundRobinStrategy roundRobinStrategy = new RoundRobinStrategy(4, 60);
+
+    private Tournament emptyTournament;
+    private Tournament completedTournament;
+    private TournamentSnapshot completedSnapshot;
+
+    @Setup
+    public void setUp() {
+        emptyTournament = TournamentFixtures.tournamentWithPairs(pairs);
+        completedTournament = TournamentFixtures.completedRoundRobin(pairs, 42L);
+        completedSnapshot = TournamentSnapshot.of(completedTournament);
+    }
+
+    @Benchmark
+    public List<Match> quadrangularGenerateMatches() {
+        return quadrangularStrategy.generateMatches(emptyTournament);
+    }
+
+    // Desde las entidades incluye armar el snapshot, como al finalizar un torneo
+    @Benchmark
+    public List<PairStanding> quadrangularCalculateStandings() {
+        return quadrangularStrategy.calculateStandings(completedTournament);
+    }
+
+    @Benchmark
+    public List<PairStanding> quadrangularCalculateStandingsFromSnapshot() {
+        return quadrangularStrategy.calculateStandings(completedSnapshot);
+    }
+
+    @Benchmark
+    public List<Match> roundRobinGenerateMatches() {
+        return roundRobinStrategy.generateMatches(emptyTournament);
+    }
+}
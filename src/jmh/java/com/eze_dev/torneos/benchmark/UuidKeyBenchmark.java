@@ -0,0 +1,150 @@
+package com.eze_dev.torneos.benchmark;
+
+import com.eze_dev.torneos.model.id.UuidV7;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.sql.*;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// Inserciones en una tabla con la forma de matches (PK + FK a torneo y parejas + índice secundario)
+// según cómo se guardan y generan los ids. Por defecto usa H2 en archivo; contra MySQL:
+// -Djmh.args="UuidKeyBenchmark -jvmArgs -Dbench.jdbc.url=jdbc:mysql://localhost:3306/bench?rewriteBatchedStatements=true -jvmArgs -Dbench.jdbc.user=root -jvmArgs -Dbench.jdbc.password=root"
+// Al final de cada trial imprime filas y bytes ocupados (datos + índices)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UuidKeyBenchmark {
+
+    private static final int BATCH_SIZE = 500;
+    private static final int PAIR_POOL = 64;
+    private static final String TABLE = "bench_matches";
+
+    public enum KeyType {
+        VARCHAR_V4("VARCHAR(36)", UUID::randomUUID, false),
+        VARCHAR_V7("VARCHAR(36)", UuidV7::randomUuid, false),
+        BINARY_V4("BINARY(16)", UUID::randomUUID, true),
+        BINARY_V7("BINARY(16)", UuidV7::randomUuid, true);
+
+        private final String columnType;
+        private final Supplier<UUID> generator;
+        private final boolean binary;
+
+        KeyType(String columnType, Supplier<UUID> generator, boolean binary) {
+            this.columnType = columnType;
+            this.generator = generator;
+            this.binary = binary;
+        }
+    }
+
+    @Param({"VARCHAR_V4", "VARCHAR_V7", "BINARY_V4", "BINARY_V7"})
+    private KeyType keyType;
+
+    private Connection connection;
+    private PreparedStatement insert;
+    private boolean mysql;
+    private UUID[] pairIds;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        String url = System.getProperty("bench.jdbc.url",
+                "jdbc:h2:file:" + System.getProperty("java.io.tmpdir") + "/torneos-uuid-bench;MODE=MySQL");
+        connection = DriverManager.getConnection(url,
+                System.getProperty("bench.jdbc.user", "sa"), System.getProperty("bench.jdbc.password", ""));
+        mysql = url.startsWith("jdbc:mysql");
+
+        String type = keyType.columnType;
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+            statement.execute("CREATE TABLE " + TABLE + " ("
+                    + "id " + type + " NOT NULL PRIMARY KEY, "
+                    + "tournament_id " + type + " NOT NULL, "
+                    + "pair1_id " + type + " NOT NULL, "
+                    + "pair2_id " + type + ", "
+                    + "round_number INT, "
+                    + "status VARCHAR(16) NOT NULL)");
+            statement.execute("CREATE INDEX idx_bench_tournament ON " + TABLE + " (tournament_id)");
+            statement.execute("CREATE INDEX idx_bench_pair1 ON " + TABLE + " (pair1_id)");
+        }
+
+        connection.setAutoCommit(false);
+        insert = connection.prepareStatement("INSERT INTO " + TABLE
+                + " (id, tournament_id, pair1_id, pair2_id, round_number, status) VALUES (?, ?, ?, ?, ?, 'PENDING')");
+
+        pairIds = new UUID[PAIR_POOL];
+        for (int i = 0; i < PAIR_POOL; i++) {
+            pairIds[i] = keyType.generator.get();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        System.out.printf("%n[%s] %s%n", keyType, tableSize());
+        insert.close();
+        connection.close();
+    }
+
+    // Un torneo nuevo por lote, como al generar el fixture
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public int insertBatch() throws SQLException {
+        UUID tournamentId = keyType.generator.get();
+
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            bind(1, keyType.generator.get());
+            bind(2, tournamentId);
+            bind(3, pairIds[i % PAIR_POOL]);
+            bind(4, pairIds[(i + 1) % PAIR_POOL]);
+            insert.setInt(5, i / 16 + 1);
+            insert.addBatch();
+        }
+
+        int inserted = insert.executeBatch().length;
+        connection.commit();
+
+        return inserted;
+    }
+
+    private void bind(int index, UUID uuid) throws SQLException {
+        if (keyType.binary) {
+            insert.setBytes(index, ByteBuffer.allocate(16)
+                    .putLong(uuid.getMostSignificantBits())
+                    .putLong(uuid.getLeastSignificantBits())
+                    .array());
+        } else {
+            insert.setString(index, uuid.toString());
+        }
+    }
+
+    private String tableSize() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            long rows;
+            try (ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM " + TABLE)) {
+                rs.next();
+                rows = rs.getLong(1);
+            }
+
+            if (mysql) {
+                statement.execute("ANALYZE TABLE " + TABLE);
+                try (ResultSet rs = statement.executeQuery("SELECT data_length, index_length FROM information_schema.tables "
+                        + "WHERE table_schema = DATABASE() AND table_name = '" + TABLE + "'")) {
+                    rs.next();
+                    return String.format("rows=%d data=%d KB index=%d KB (%.1f bytes/row)", rows,
+                            rs.getLong(1) / 1024, rs.getLong(2) / 1024, (rs.getLong(1) + rs.getLong(2)) / (double) rows);
+                }
+            }
+
+            // H2 no separa datos de índices: DISK_SPACE_USED cuenta la tabla con todos sus índices
+            try (ResultSet rs = statement.executeQuery("SELECT DISK_SPACE_USED('" + TABLE + "')")) {
+                rs.next();
+                return String.format("rows=%d total=%d KB (%.1f bytes/row)", rows, rs.getLong(1) / 1024,
+                        rs.getLong(1) / (double) rows);
+            }
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.eze_dev.torneos.benchmark;
+
+import com.eze_dev.torneos.model.Match;
+import com.eze_dev.torneos.strategy.matchrule.OneSetTo6Strategy;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Recorre todos los marcadores posibles de 0 a 8 games, válidos e inválidos
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WinningRuleBenchmark {
+
+    private final OneSetTo6Strategy oneSetTo6Strategy = new OneSetTo6Strategy();
+
+    private List<Match> results;
+
+    @Setup
+    public void setUp() {
+        results = new ArrayList<>();
+
+        for (int score1 = 0; score1 <= 8; score1++) {
+            for (int score2 = 0; score2 <= 8; score2++) {
+                results.add(Match.builder().pair1Score(score1).pair2Score(score2).build());
+            }
+        }
+    }
+
+    @Benchmark
+    public void isValidResult(Blackhole blackhole) {
+        for (Match match : results) {
+            blackhole.consume(oneSetTo6Strategy.isValidResult(match));
+        }
+    }
+
+    @Benchmark
+    public void hasWinner(Blackhole blackhole) {
+        for (Match match : results) {
+            blackhole.consume(oneSetTo6Strategy.hasWinner(match));
+        }
+    }
+}
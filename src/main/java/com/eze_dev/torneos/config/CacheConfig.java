@@ -0,0 +1,13 @@
+package com.eze_dev.torneos.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+// Tamaño y vencimiento de las cachés en spring.cache.caffeine.spec; se invalidan con TournamentChangedEvent
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String STANDINGS_CACHE = "tournament-standings";
+    public static final String PROGRESS_CACHE = "tournament-progress";
+}
@@ -0,0 +1,103 @@
+package com.eze_dev.torneos.config;
+
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Admite a lo sumo tantas conexiones abiertas como permisos tenga el semáforo. Los hilos que esperan quedan
+// estacionados en orden de llegada y, pasado el timeout, fallan en lugar de acumularse frente al pool
+public class ConnectionLimitingDataSource extends DelegatingDataSource {
+
+    private static final String CONNECTION_LIMIT_MSG = "No database connection became available within %d ms.";
+
+    private final Semaphore permits;
+    private final long acquireTimeoutMs;
+
+    public ConnectionLimitingDataSource(DataSource target, int maxConnections, long acquireTimeoutMs) {
+        super(target);
+        this.permits = new Semaphore(maxConnections, true);
+        this.acquireTimeoutMs = acquireTimeoutMs;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+
+        try {
+            return limited(obtainTargetDataSource().getConnection());
+        } catch (SQLException | RuntimeException ex) {
+            permits.release();
+            throw ex;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+
+        try {
+            return limited(obtainTargetDataSource().getConnection(username, password));
+        } catch (SQLException | RuntimeException ex) {
+            permits.release();
+            throw ex;
+        }
+    }
+
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException(String.format(CONNECTION_LIMIT_MSG, acquireTimeoutMs));
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException(String.format(CONNECTION_LIMIT_MSG, acquireTimeoutMs), ex);
+        }
+    }
+
+    // El permiso se devuelve una sola vez, al cerrar la conexión
+    private Connection limited(Connection target) {
+        AtomicBoolean closed = new AtomicBoolean();
+
+        return (Connection) Proxy.newProxyInstance(ConnectionProxy.class.getClassLoader(),
+                new Class<?>[]{ConnectionProxy.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "getTargetConnection" -> target;
+                    case "isClosed" -> closed.get() || target.isClosed();
+                    case "close" -> {
+                        if (closed.compareAndSet(false, true)) {
+                            try {
+                                target.close();
+                            } finally {
+                                permits.release();
+                            }
+                        }
+                        yield null;
+                    }
+                    default -> invoke(target, method, args);
+                });
+    }
+
+    private static Object invoke(Connection target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.eze_dev.torneos.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.stream.Collectors;
+
+// Con spring.threads.virtual.enabled Tomcat, @Async y @Scheduled corren cada tarea en un hilo virtual.
+// Ya no hay un tope de hilos que limite cuántos piden conexión a la vez, así que el pool queda detrás de un semáforo
+@Slf4j
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int PINNED_FRAMES = 8;
+
+    @Bean
+    static BeanPostProcessor connectionLimitingDataSourcePostProcessor(
+            @Value("${torneos.datasource.max-concurrent-connections:${spring.datasource.hikari.maximum-pool-size:10}}") int maxConnections,
+            @Value("${torneos.datasource.acquire-timeout-ms:5000}") long acquireTimeoutMs) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource) {
+                    return new ConnectionLimitingDataSource(dataSource, maxConnections, acquireTimeoutMs);
+                }
+
+                return bean;
+            }
+        };
+    }
+
+    // Un synchronized que bloquea (E/S, locks, esperas) fija el hilo virtual a su portador; JFR los reporta
+    @Bean(destroyMethod = "close")
+    RecordingStream pinnedVirtualThreadRecording(MeterRegistry meterRegistry,
+                                                 @Value("${torneos.virtual-threads.pinned-threshold-ms:20}") long thresholdMs) {
+        Counter pinned = Counter.builder("torneos.virtual-threads.pinned")
+                .description("Virtual threads pinned to their carrier longer than the threshold")
+                .register(meterRegistry);
+
+        RecordingStream recording = new RecordingStream();
+        recording.enable(PINNED_EVENT).withThreshold(Duration.ofMillis(thresholdMs)).withStackTrace();
+        recording.onEvent(PINNED_EVENT, event -> {
+            pinned.increment();
+            log.warn("Virtual thread pinned for {} ms at {}", event.getDuration().toMillis(),
+                    event.getStackTrace() == null ? "unknown" : event.getStackTrace().getFrames().stream()
+                            .limit(PINNED_FRAMES)
+                            .map(VirtualThreadConfig::describe)
+                            .collect(Collectors.joining(" <- ")));
+        });
+        recording.startAsync();
+
+        return recording;
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+}
@@ -1,13 +1,17 @@
 package com.eze_dev.torneos.controller;
 
 import com.eze_dev.torneos.dto.response.MatchResponseDto;
+import com.eze_dev.torneos.dto.response.MatchResultOutcomeResponseDto;
 import com.eze_dev.torneos.dto.update.MatchResultUpdateDto;
 import com.eze_dev.torneos.service.interfaces.IMatchService;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @RestController
@@ -21,4 +25,10 @@ public class MatchController {
     public ResponseEntity<MatchResponseDto> updateMatchResult(@PathVariable UUID tournamentId, @PathVariable UUID id, @Valid @RequestBody MatchResultUpdateDto matchResultUpdateDto) {
         return ResponseEntity.ok(matchService.updateMatchResult(tournamentId, id, matchResultUpdateDto));
     }
+
+    // Resultados indexados por id de partido; la respuesta informa cuáles se aplicaron y por qué se rechazó el resto
+    @PutMapping("/results")
+    public ResponseEntity<List<MatchResultOutcomeResponseDto>> updateMatchResults(@PathVariable UUID tournamentId, @Valid @RequestBody @NotEmpty Map<UUID, @Valid MatchResultUpdateDto> results) {
+        return ResponseEntity.ok(matchService.updateMatchResults(tournamentId, results));
+    }
 }
@@ -0,0 +1,29 @@
+package com.eze_dev.torneos.controller;
+
+import com.eze_dev.torneos.dto.response.OutboxReplayResponseDto;
+import com.eze_dev.torneos.service.interfaces.IOutboxService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/outbox")
+@RequiredArgsConstructor
+public class OutboxController {
+
+    private final IOutboxService outboxService;
+
+    // Sólo marca los eventos como pendientes: el despachador los entrega en su próximo ciclo
+    @PostMapping("/replay")
+    public ResponseEntity<OutboxReplayResponseDto> replay(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            @RequestParam(required = false) UUID tournamentId) {
+        int replayed = outboxService.replay(since, tournamentId);
+
+        return ResponseEntity.accepted().body(new OutboxReplayResponseDto(replayed));
+    }
+}
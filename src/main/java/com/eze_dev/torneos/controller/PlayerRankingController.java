@@ -1,15 +1,18 @@
 package com.eze_dev.torneos.controller;
 
+import com.eze_dev.torneos.dto.response.CursorPaginatedResponseDto;
+import com.eze_dev.torneos.dto.response.PaginatedResponseDto;
 import com.eze_dev.torneos.dto.response.PlayerRankingResponseDto;
 import com.eze_dev.torneos.service.interfaces.IPlayerStandingService;
 import com.eze_dev.torneos.types.CategoryType;
 import com.eze_dev.torneos.types.GenderType;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RequestParam;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 
@@ -27,4 +30,30 @@ public class PlayerRankingController {
 
         return ResponseEntity.ok(playerStandingService.getPlayerRankings(category, gender));
     }
+
+    @GetMapping("/paginated")
+    public ResponseEntity<PaginatedResponseDto<PlayerRankingResponseDto>> getPlayerRankingsPage(
+            @RequestParam(required = false) CategoryType category,
+            @RequestParam(required = false) GenderType gender,
+            @PageableDefault Pageable pageable) {
+
+        return ResponseEntity.ok(playerStandingService.getPlayerRankingsPaginated(category, gender, pageable));
+    }
+
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorPaginatedResponseDto<PlayerRankingResponseDto>> getPlayerRankingsAfter(
+            @RequestParam(required = false) CategoryType category,
+            @RequestParam(required = false) GenderType gender,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+
+        return ResponseEntity.ok(playerStandingService.getPlayerRankingsAfter(category, gender, cursor, size));
+    }
+
+    @PostMapping("/rebuild")
+    public ResponseEntity<Void> rebuildPlayerRankings() {
+        playerStandingService.rebuildPlayerRankings();
+
+        return ResponseEntity.noContent().build();
+    }
 }
@@ -4,10 +4,7 @@ import com.eze_dev.torneos.dto.response.PlayerStandingResponseDto;
 import com.eze_dev.torneos.service.interfaces.IPlayerStandingService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 import java.util.UUID;
@@ -28,4 +25,11 @@ public class PlayerStandingController {
     public ResponseEntity<PlayerStandingResponseDto> getPlayerStandingById(@PathVariable UUID id) {
         return ResponseEntity.ok(playerStandingService.getPlayerStandingById(id));
     }
+
+    @PostMapping("/rebuild")
+    public ResponseEntity<Void> rebuildPlayerStandings() {
+        playerStandingService.rebuildPlayerStandings();
+
+        return ResponseEntity.noContent().build();
+    }
 }
@@ -2,19 +2,25 @@ package com.eze_dev.torneos.controller;
 
 import com.eze_dev.torneos.dto.create.TournamentCreateDto;
 import com.eze_dev.torneos.dto.response.*;
+import com.eze_dev.torneos.dto.update.MatchScheduleUpdateDto;
 import com.eze_dev.torneos.dto.update.TournamentStatusUpdateDto;
 import com.eze_dev.torneos.dto.update.TournamentUpdateDto;
+import com.eze_dev.torneos.service.interfaces.ITournamentLiveService;
 import com.eze_dev.torneos.service.interfaces.ITournamentService;
 import com.eze_dev.torneos.types.TournamentStatus;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/v1/tournaments")
@@ -22,6 +28,7 @@ import java.util.UUID;
 public class TournamentController {
 
     private final ITournamentService tournamentService;
+    private final ITournamentLiveService tournamentLiveService;
 
     @PostMapping
     public ResponseEntity<TournamentResponseDto> createTournament(@Valid @RequestBody TournamentCreateDto tournamentCreateDto) {
@@ -34,8 +41,8 @@ public class TournamentController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<TournamentResponseDto> getTournamentById(@PathVariable UUID id) {
-        return ResponseEntity.ok(tournamentService.getById(id));
+    public ResponseEntity<TournamentResponseDto> getTournamentById(@PathVariable UUID id, WebRequest request) {
+        return withVersionETag(id, request, () -> tournamentService.getById(id));
     }
 
     @PutMapping("/{id}")
@@ -70,8 +77,8 @@ public class TournamentController {
     }
 
     @GetMapping("/{id}/pairs")
-    public ResponseEntity<List<PairResponseDto>> getPairsInTournament(@PathVariable UUID id) {
-        return ResponseEntity.ok(tournamentService.getPairsInTournament(id));
+    public ResponseEntity<List<PairResponseDto>> getPairsInTournament(@PathVariable UUID id, WebRequest request) {
+        return withVersionETag(id, request, () -> tournamentService.getPairsInTournament(id));
     }
 
     @PutMapping("/{id}/status")
@@ -80,23 +87,42 @@ public class TournamentController {
     }
 
     @GetMapping("/{id}/matches")
-    public ResponseEntity<List<MatchResponseDto>> getMatchesByTournament(@PathVariable UUID id) {
-        return ResponseEntity.ok(tournamentService.getMatchesInTournament(id));
+    public ResponseEntity<List<MatchResponseDto>> getMatchesByTournament(@PathVariable UUID id, WebRequest request) {
+        return withVersionETag(id, request, () -> tournamentService.getMatchesInTournament(id));
+    }
+
+    @PutMapping("/{id}/schedule")
+    public ResponseEntity<List<MatchResponseDto>> rescheduleMatches(@PathVariable UUID id, @Valid @RequestBody MatchScheduleUpdateDto matchScheduleUpdateDto) {
+        return ResponseEntity.ok(tournamentService.rescheduleMatches(id, matchScheduleUpdateDto));
     }
 
     @GetMapping("/{id}/standings")
-    public ResponseEntity<List<PairStandingResponseDto>> getStandingsByTournament(@PathVariable UUID id) {
-        return ResponseEntity.ok(tournamentService.getStandings(id));
+    public ResponseEntity<List<PairStandingResponseDto>> getStandingsByTournament(@PathVariable UUID id, WebRequest request) {
+        return withVersionETag(id, request, () -> tournamentService.getStandings(id));
+    }
+
+    // Stream SSE: un "snapshot" al conectar y un "result" por cada resultado cargado
+    @GetMapping(path = "/{id}/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter getTournamentLiveFeed(@PathVariable UUID id) {
+        return tournamentLiveService.subscribe(id);
     }
 
     @GetMapping("/{id}/progress")
-    public ResponseEntity<TournamentProgressResponseDto> getTournamentProgress(@PathVariable UUID id) {
-        return ResponseEntity.ok(tournamentService.getProgress(id));
+    public ResponseEntity<TournamentProgressResponseDto> getTournamentProgress(@PathVariable UUID id, WebRequest request) {
+        return withVersionETag(id, request, () -> tournamentService.getProgress(id));
     }
 
     @GetMapping("/summary")
-    public ResponseEntity<List<TournamentSummaryResponseDto>> getTournamentSummaries() {
-        return ResponseEntity.ok(tournamentService.getSummary());
+    public ResponseEntity<List<TournamentSummaryResponseDto>> getTournamentSummaries(@RequestParam(required = false) TournamentStatus status) {
+        return ResponseEntity.ok(tournamentService.getSummary(status));
+    }
+
+    @GetMapping("/summary/paginated")
+    public ResponseEntity<PaginatedResponseDto<TournamentSummaryResponseDto>> getTournamentSummariesPaginated(
+            @RequestParam(required = false) TournamentStatus status,
+            @PageableDefault Pageable pageable) {
+
+        return ResponseEntity.ok(tournamentService.getSummaryPaginated(status, pageable));
     }
 
     @GetMapping("/{id}/status")
@@ -104,4 +130,15 @@ public class TournamentController {
         return ResponseEntity.ok(tournamentService.getStatus(id));
     }
 
+    // El ETag es la versión del torneo, leída sin cargar colecciones. Si coincide con If-None-Match,
+    // checkNotModified deja la respuesta en 304 y el cuerpo no se llega a calcular ni serializar
+    private <T> ResponseEntity<T> withVersionETag(UUID id, WebRequest request, Supplier<T> body) {
+        String eTag = "\"" + tournamentService.getVersion(id) + "\"";
+
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+
+        return ResponseEntity.ok().eTag(eTag).body(body.get());
+    }
 }
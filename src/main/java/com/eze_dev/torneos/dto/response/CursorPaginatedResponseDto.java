@@ -0,0 +1,19 @@
+package com.eze_dev.torneos.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorPaginatedResponseDto<T> {
+
+    private List<T> items;
+    private String nextCursor;
+    private boolean hasNext;
+}
@@ -22,5 +22,9 @@ public class MatchResponseDto {
     private Integer pair1Score;
     private Integer pair2Score;
     private LocalDateTime scheduledDate;
+    private Integer round;
+    private Integer court;
+    private Integer bracketPosition;
+    private Integer groupNumber;
     private MatchStatus status;
 }
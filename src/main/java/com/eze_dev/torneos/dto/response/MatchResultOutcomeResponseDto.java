@@ -0,0 +1,20 @@
+package com.eze_dev.torneos.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MatchResultOutcomeResponseDto {
+
+    private UUID matchId;
+    private boolean updated;
+    private MatchResponseDto match;
+    private String error;
+}
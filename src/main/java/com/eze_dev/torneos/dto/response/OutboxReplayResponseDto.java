@@ -0,0 +1,15 @@
+package com.eze_dev.torneos.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxReplayResponseDto {
+
+    private int replayedEvents;
+}
@@ -0,0 +1,23 @@
+package com.eze_dev.torneos.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+// Evento del stream en vivo: en "snapshot" viene la tabla completa; en "result" sólo los partidos
+// recién cargados y las filas de la tabla que cambiaron, más el orden actual de las parejas
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TournamentLiveEventResponseDto {
+
+    private UUID tournamentId;
+    private List<MatchResponseDto> matches;
+    private List<PairStandingResponseDto> standings;
+    private List<UUID> order;
+}
@@ -0,0 +1,31 @@
+package com.eze_dev.torneos.dto.update;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MatchScheduleUpdateDto {
+
+    @NotNull(message = "Number of courts is required")
+    @Min(value = 1, message = "At least one court is required")
+    private Integer courts;
+
+    @NotNull(message = "Slot length is required")
+    @Min(value = 1, message = "Slot length must be at least one minute")
+    private Integer slotMinutes;
+
+    @Min(value = 0, message = "Rest time cannot be negative")
+    private Integer minRestMinutes;
+
+    // Si no se indica, se replanifica desde ahora
+    private LocalDateTime startTime;
+}
@@ -0,0 +1,10 @@
+package com.eze_dev.torneos.event;
+
+import com.eze_dev.torneos.dto.response.MatchResponseDto;
+
+import java.util.List;
+import java.util.UUID;
+
+// Partidos ya mapeados dentro de la transacción: los oyentes corren después del commit, sin sesión abierta
+public record MatchResultsRecordedEvent(UUID tournamentId, List<MatchResponseDto> matches) {
+}
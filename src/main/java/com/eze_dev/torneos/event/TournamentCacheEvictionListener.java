@@ -0,0 +1,39 @@
+package com.eze_dev.torneos.event;
+
+import com.eze_dev.torneos.config.CacheConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TournamentCacheEvictionListener {
+
+    private final CacheManager cacheManager;
+
+    // Después del commit: si se invalidara antes, una lectura concurrente podría volver a cachear
+    // los datos viejos mientras la transacción sigue abierta
+    // Primero entre los oyentes del commit: los que recalculan posiciones tienen que encontrar la caché ya limpia
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTournamentChanged(TournamentChangedEvent event) {
+        evict(CacheConfig.STANDINGS_CACHE, event);
+        evict(CacheConfig.PROGRESS_CACHE, event);
+
+        log.debug("Evicted cached standings and progress for tournament {}", event.tournamentId());
+    }
+
+    private void evict(String cacheName, TournamentChangedEvent event) {
+        Cache cache = cacheManager.getCache(cacheName);
+
+        if (cache != null) {
+            cache.evict(event.tournamentId());
+        }
+    }
+}
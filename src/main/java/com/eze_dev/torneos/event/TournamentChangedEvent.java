@@ -0,0 +1,7 @@
+package com.eze_dev.torneos.event;
+
+import java.util.UUID;
+
+// Cambió algo que afecta posiciones o avance del torneo: resultados, parejas inscriptas o estado
+public record TournamentChangedEvent(UUID tournamentId) {
+}
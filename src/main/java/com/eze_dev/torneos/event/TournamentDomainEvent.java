@@ -0,0 +1,11 @@
+package com.eze_dev.torneos.event;
+
+import com.eze_dev.torneos.types.OutboxEventType;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Evento del outbox ya confirmado, entregado por OutboxService al menos una vez (también en un replay):
+// los oyentes releen el estado actual del torneo y tienen que ser idempotentes
+public record TournamentDomainEvent(UUID eventId, OutboxEventType type, UUID tournamentId, LocalDateTime occurredAt) {
+}
@@ -0,0 +1,27 @@
+package com.eze_dev.torneos.event;
+
+import com.eze_dev.torneos.service.interfaces.ITournamentService;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TournamentFinalizationListener {
+
+    private final ITournamentService tournamentService;
+
+    // Fuera del request que cargó los resultados, en su propia transacción. Idempotente: un torneo ya finalizado
+    // o con partidos pendientes queda como está, así que una reentrega no vuelve a otorgar puntos de ranking
+    @EventListener(condition = "#event.type() == T(com.eze_dev.torneos.types.OutboxEventType).MATCH_RESULTS_RECORDED")
+    public void onMatchResultsRecorded(TournamentDomainEvent event) {
+        try {
+            tournamentService.tryFinalizeTournamentIfCompleted(event.tournamentId());
+        } catch (EntityNotFoundException e) {
+            log.debug("Tournament {} no longer exists, nothing to finalize", event.tournamentId());
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.eze_dev.torneos.job;
+
+import com.eze_dev.torneos.service.interfaces.IOutboxService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "torneos.outbox.dispatcher.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxDispatchJob {
+
+    private final IOutboxService outboxService;
+
+    @Value("${torneos.outbox.retention-days}")
+    private int retentionDays;
+
+    @Scheduled(fixedDelayString = "${torneos.outbox.poll-ms}")
+    public void dispatch() {
+        outboxService.dispatchPending();
+    }
+
+    // Los despachados se conservan un tiempo para poder hacer replay
+    @Scheduled(cron = "${torneos.outbox.purge-cron}")
+    public void purge() {
+        int purged = outboxService.purgeDispatched(LocalDateTime.now().minusDays(retentionDays));
+        log.info("Purged {} dispatched outbox events older than {} days", purged, retentionDays);
+    }
+}
@@ -0,0 +1,23 @@
+package com.eze_dev.torneos.job;
+
+import com.eze_dev.torneos.service.interfaces.IPlayerStandingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlayerStandingRebuildJob {
+
+    private final IPlayerStandingService playerStandingService;
+
+    // Reconcilia las tablas agregadas desde cero por si algún delta se perdió
+    @Scheduled(cron = "${torneos.player-standings.rebuild-cron:0 0 4 * * *}")
+    public void rebuild() {
+        log.info("Starting scheduled rebuild of player standings and rankings");
+        playerStandingService.rebuildPlayerStandings();
+        playerStandingService.rebuildPlayerRankings();
+    }
+}
@@ -11,6 +11,16 @@ import java.util.List;
 @Mapper(componentModel = "spring", uses = { PairMapper.class })
 public interface MatchMapper {
 
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "tournament", ignore = true)
+    @Mapping(target = "pair1", ignore = true)
+    @Mapping(target = "pair2", ignore = true)
+    @Mapping(target = "pair1Score", ignore = true)
+    @Mapping(target = "pair2Score", ignore = true)
+    @Mapping(target = "round", ignore = true)
+    @Mapping(target = "court", ignore = true)
+    @Mapping(target = "bracketPosition", ignore = true)
+    @Mapping(target = "groupNumber", ignore = true)
     Match toEntity(MatchCreateDto matchCreateDto);
 
     @Mapping(source = "tournament.id", target = "tournamentId")
@@ -19,5 +29,15 @@ public interface MatchMapper {
     List<MatchResponseDto> toDtoList(List<Match> matches);
 
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "tournament", ignore = true)
+    @Mapping(target = "pair1", ignore = true)
+    @Mapping(target = "pair2", ignore = true)
+    @Mapping(target = "scheduledDate", ignore = true)
+    @Mapping(target = "round", ignore = true)
+    @Mapping(target = "court", ignore = true)
+    @Mapping(target = "bracketPosition", ignore = true)
+    @Mapping(target = "groupNumber", ignore = true)
+    @Mapping(target = "status", ignore = true)
     void updateResultFromDto(MatchResultUpdateDto dto, @MappingTarget Match match);
 }
@@ -6,20 +6,28 @@ import com.eze_dev.torneos.dto.update.PairUpdateDto;
 import com.eze_dev.torneos.model.Pair;
 import org.mapstruct.BeanMapping;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
 import org.mapstruct.NullValuePropertyMappingStrategy;
 
+import java.util.Collection;
 import java.util.List;
 
 @Mapper(componentModel = "spring", uses = { PlayerSummaryMapper.class })
 public interface PairMapper {
 
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "player1", ignore = true)
+    @Mapping(target = "player2", ignore = true)
     Pair toEntity(PairCreateDto pairCreateDto);
 
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "player1", ignore = true)
+    @Mapping(target = "player2", ignore = true)
     void updateEntityFromDto(PairUpdateDto pairUpdateDto, @MappingTarget Pair entity);
 
     PairResponseDto toDto(Pair pair);
 
-    List<PairResponseDto> toDtoList(List<Pair> pairs);
+    List<PairResponseDto> toDtoList(Collection<Pair> pairs);
 }
@@ -6,6 +6,7 @@ import com.eze_dev.torneos.dto.response.PlayerResponseDto;
 import com.eze_dev.torneos.model.Player;
 import org.mapstruct.BeanMapping;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
 import org.mapstruct.NullValuePropertyMappingStrategy;
 
@@ -15,10 +16,12 @@ import java.util.List;
 public interface PlayerMapper {
 
     // Crear entidad desde DTO
+    @Mapping(target = "id", ignore = true)
     Player toEntity(PlayerCreateDto playerCreateDto);
 
     // Actualizar entidad ignorando nulos
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+    @Mapping(target = "id", ignore = true)
     void updateEntityFromDto(PlayerUpdateDto playerUpdateDto, @MappingTarget Player entity);
 
     // Mapear entidad a DTO respuesta
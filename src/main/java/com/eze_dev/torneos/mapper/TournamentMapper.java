@@ -11,10 +11,19 @@ import java.util.List;
 @Mapper(componentModel = "spring", uses = { PairMapper.class })
 public interface TournamentMapper {
 
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @Mapping(target = "status", ignore = true)
+    @Mapping(target = "pairs", ignore = true)
+    @Mapping(target = "matches", ignore = true)
     Tournament toEntity(TournamentCreateDto tournamentCreateDto);
 
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "status", ignore = true)
+    @Mapping(target = "pairs", ignore = true)
+    @Mapping(target = "matches", ignore = true)
     void updateEntityFromDto(TournamentUpdateDto tournamentUpdateDto, @MappingTarget Tournament entity);
 
     TournamentResponseDto toDto(Tournament tournament);
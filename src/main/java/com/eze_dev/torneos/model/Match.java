@@ -1,26 +1,30 @@
 package com.eze_dev.torneos.model;
 
+import com.eze_dev.torneos.model.id.GeneratedUuidV7;
 import com.eze_dev.torneos.types.MatchStatus;
 import jakarta.persistence.*;
 import lombok.*;
-import org.hibernate.annotations.JdbcTypeCode;
-import org.hibernate.type.SqlTypes;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "matches")
-@Data
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "matches")
+@Table(name = "matches", uniqueConstraints = @UniqueConstraint(
+        name = "uk_match_bracket_slot", columnNames = {"tournament_id", "round_number", "bracket_position"}))
+@Getter
+@Setter
+@ToString(exclude = {"tournament", "pair1", "pair2"})
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Match {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
-    @JdbcTypeCode(SqlTypes.VARCHAR)
-    @Column(name = "id", length = 36)
+    @GeneratedUuidV7
+    @Column(name = "id")
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -31,8 +35,9 @@ public class Match {
     @JoinColumn(name = "pair1_id", nullable = false)
     private Pair pair1;
 
+    // Nula sólo en los byes de un cuadro de eliminación directa
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "pair2_id", nullable = false)
+    @JoinColumn(name = "pair2_id")
     private Pair pair2;
 
     @Column
@@ -44,8 +49,36 @@ public class Match {
     @Column(nullable = false)
     private LocalDateTime scheduledDate;
 
+    @Column(name = "round_number")
+    private Integer round;
+
+    @Column
+    private Integer court;
+
+    @Column(name = "bracket_position")
+    private Integer bracketPosition;
+
+    @Column(name = "group_number")
+    private Integer groupNumber;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private MatchStatus status;
-}
 
+    // Igual que en Pair: por id, sin tocar las asociaciones perezosas
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Match other)) {
+            return false;
+        }
+        return id != null && id.equals(other.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Match.class.hashCode();
+    }
+}
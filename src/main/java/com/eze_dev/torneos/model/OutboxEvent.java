@@ -0,0 +1,69 @@
+package com.eze_dev.torneos.model;
+
+import com.eze_dev.torneos.model.id.GeneratedUuidV7;
+import com.eze_dev.torneos.types.OutboxEventType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Sin caché de segundo nivel: se escribe una vez y se lee sólo desde el despachador.
+// El id es UUIDv7, así que ordenar por id es ordenar por alta
+@Entity
+@Table(name = "outbox_events")
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+
+    @Id
+    @GeneratedUuidV7
+    @Column(name = "id")
+    private UUID id;
+
+    @Column(nullable = false)
+    private UUID tournamentId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OutboxEventType eventType;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column
+    private LocalDateTime dispatchedAt;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(length = 500)
+    private String lastError;
+
+    // Lote del despachador que lo tiene reclamado y hasta cuándo (ver OutboxService.dispatchPending)
+    @Column(length = 36)
+    private String claimedBy;
+
+    @Column
+    private LocalDateTime claimedUntil;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof OutboxEvent other)) {
+            return false;
+        }
+        return id != null && id.equals(other.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return OutboxEvent.class.hashCode();
+    }
+}
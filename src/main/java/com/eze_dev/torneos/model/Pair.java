@@ -1,24 +1,27 @@
 package com.eze_dev.torneos.model;
 
+import com.eze_dev.torneos.model.id.GeneratedUuidV7;
 import jakarta.persistence.*;
 import lombok.*;
-import org.hibernate.annotations.JdbcTypeCode;
-import org.hibernate.type.SqlTypes;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.UUID;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "pairs")
 @Table(name = "pairs")
-@Data
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Pair {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
-    @JdbcTypeCode(SqlTypes.VARCHAR)
-    @Column(name = "id", length = 36)
+    @GeneratedUuidV7
+    @Column(name = "id")
     private UUID id;
 
     @ManyToOne
@@ -31,5 +34,23 @@ public class Pair {
 
     @Column(unique = true)
     private String teamName;
-}
 
+    // Identidad por id y no por contenido: no recorre a los jugadores y un proxy sin inicializar es igual a la
+    // entidad que representa. El hashCode es fijo por clase porque el id recién se asigna al persistir, y así
+    // la pareja no cambia de bucket si entra a un Set antes de guardarse
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Pair other)) {
+            return false;
+        }
+        return id != null && id.equals(other.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Pair.class.hashCode();
+    }
+}
@@ -1,25 +1,28 @@
 package com.eze_dev.torneos.model;
 
+import com.eze_dev.torneos.model.id.GeneratedUuidV7;
 import com.eze_dev.torneos.types.GenderType;
 import jakarta.persistence.*;
 import lombok.*;
-import org.hibernate.annotations.JdbcTypeCode;
-import org.hibernate.type.SqlTypes;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.UUID;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "players")
 @Table(name = "players")
-@Data
+@Getter
+@Setter
+@ToString
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
 public class Player {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
-    @JdbcTypeCode(SqlTypes.VARCHAR)
-    @Column(name = "id", length = 36)
+    @GeneratedUuidV7
+    @Column(name = "id")
     private UUID id;
 
     @Column(nullable = false)
@@ -36,4 +39,20 @@ public class Player {
 
     @Column(nullable = false)
     private String phoneNumber;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Player other)) {
+            return false;
+        }
+        return id != null && id.equals(other.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Player.class.hashCode();
+    }
 }
@@ -0,0 +1,67 @@
+package com.eze_dev.torneos.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+@Entity
+@Table(
+        name = "player_ranking_points",
+        indexes = @Index(name = "idx_ranking_category_gender_seek", columnList = "category_type, gender_type, total_points DESC, player_id")
+)
+@Getter
+@Setter
+@ToString(exclude = "player")
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PlayerRankingPoints implements Persistable<PlayerRankingPointsId> {
+
+    @EmbeddedId
+    private PlayerRankingPointsId id;
+
+    @MapsId("playerId")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "player_id")
+    private Player player;
+
+    @Column(name = "total_points", nullable = false)
+    private int totalPoints;
+
+    @Column(nullable = false)
+    private int tournamentsPlayed;
+
+    // La clave es asignada, así que sin esta marca save() haría merge (SELECT + INSERT) en vez de persist
+    @Transient
+    @Builder.Default
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean newEntity = true;
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        newEntity = false;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PlayerRankingPoints other)) {
+            return false;
+        }
+        return id != null && id.equals(other.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return PlayerRankingPoints.class.hashCode();
+    }
+}
@@ -0,0 +1,29 @@
+package com.eze_dev.torneos.model;
+
+import com.eze_dev.torneos.types.CategoryType;
+import com.eze_dev.torneos.types.GenderType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlayerRankingPointsId implements Serializable {
+
+    @Column(name = "player_id")
+    private UUID playerId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "category_type", nullable = false)
+    private CategoryType categoryType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "gender_type", nullable = false)
+    private GenderType genderType;
+}
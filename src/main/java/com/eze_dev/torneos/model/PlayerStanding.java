@@ -0,0 +1,57 @@
+package com.eze_dev.torneos.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.UUID;
+
+@Entity
+@Table(name = "player_standings")
+@Getter
+@Setter
+@ToString(exclude = "player")
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PlayerStanding {
+
+    @Id
+    @Column(name = "player_id")
+    private UUID playerId;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "player_id")
+    private Player player;
+
+    @Column(nullable = false)
+    private int matchesPlayed;
+
+    @Column(nullable = false)
+    private int matchesWon;
+
+    @Column(nullable = false)
+    private int matchesLost;
+
+    @Column(nullable = false)
+    private int gamesWon;
+
+    @Column(nullable = false)
+    private int gamesLost;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PlayerStanding other)) {
+            return false;
+        }
+        return playerId != null && playerId.equals(other.getPlayerId());
+    }
+
+    @Override
+    public int hashCode() {
+        return PlayerStanding.class.hashCode();
+    }
+}
@@ -1,30 +1,64 @@
 package com.eze_dev.torneos.model;
 
+import com.eze_dev.torneos.model.id.GeneratedUuidV7;
 import com.eze_dev.torneos.types.*;
 import jakarta.persistence.*;
 import lombok.*;
-import org.hibernate.annotations.JdbcTypeCode;
-import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
+// Fuera de la caché de segundo nivel: las lecturas del torneo salen de consultas de proyección
+// (TournamentSnapshot) y el ETag de la versión, que no pasan por ella
 @Entity
 @Table(name = "tournaments")
-@Data
+@NamedEntityGraph(
+        name = Tournament.GRAPH_PAIRS,
+        attributeNodes = @NamedAttributeNode(value = "pairs", subgraph = "pair"),
+        subgraphs = @NamedSubgraph(name = "pair", attributeNodes = {
+                @NamedAttributeNode("player1"),
+                @NamedAttributeNode("player2")
+        })
+)
+@NamedEntityGraph(
+        name = Tournament.GRAPH_MATCHES,
+        attributeNodes = @NamedAttributeNode(value = "matches", subgraph = "match"),
+        subgraphs = {
+                @NamedSubgraph(name = "match", attributeNodes = {
+                        @NamedAttributeNode(value = "pair1", subgraph = "pair"),
+                        @NamedAttributeNode(value = "pair2", subgraph = "pair")
+                }),
+                @NamedSubgraph(name = "pair", attributeNodes = {
+                        @NamedAttributeNode("player1"),
+                        @NamedAttributeNode("player2")
+                })
+        }
+)
+@Getter
+@Setter
+@ToString(exclude = {"pairs", "matches"})
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Tournament {
 
+    public static final String GRAPH_PAIRS = "Tournament.pairs";
+    public static final String GRAPH_MATCHES = "Tournament.matches";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
-    @JdbcTypeCode(SqlTypes.VARCHAR)
-    @Column(name = "id", length = 36)
+    @GeneratedUuidV7
+    @Column(name = "id")
     private UUID id;
 
+    // Sube con cada cambio del torneo, sus parejas o (forzada) sus partidos; de acá salen los ETag
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @Column(nullable = false, unique = true)
     private String name;
 
@@ -57,6 +91,9 @@ public class Tournament {
     @Column(nullable = false)
     private TournamentStatus status;
 
+    // Set y no bag, con clave primaria (tournament_id, pair_id) en la tabla de unión. Las altas y bajas del
+    // servicio van directo a esa tabla (TournamentRepository.addPair / removePair) sin cargar la colección.
+    // Ordenadas por id (UUIDv7, orden de alta) para que los empates en las posiciones se resuelvan siempre igual
     @Builder.Default
     @ManyToMany
     @JoinTable(
@@ -64,9 +101,26 @@ public class Tournament {
             joinColumns = @JoinColumn(name = "tournament_id"),
             inverseJoinColumns = @JoinColumn(name = "pair_id")
     )
-    private List<Pair> pairs = new ArrayList<>();
+    @OrderBy("id")
+    private Set<Pair> pairs = new LinkedHashSet<>();
 
     @Builder.Default
     @OneToMany(mappedBy = "tournament", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Match> matches = new ArrayList<>();
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Tournament other)) {
+            return false;
+        }
+        return id != null && id.equals(other.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Tournament.class.hashCode();
+    }
 }
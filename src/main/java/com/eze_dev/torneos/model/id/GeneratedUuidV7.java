@@ -0,0 +1,16 @@
+package com.eze_dev.torneos.model.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+@IdGeneratorType(UuidV7Generator.class)
+@Retention(RUNTIME)
+@Target({FIELD, METHOD})
+public @interface GeneratedUuidV7 {
+}
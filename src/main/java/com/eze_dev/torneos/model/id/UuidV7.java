@@ -0,0 +1,62 @@
+package com.eze_dev.torneos.model.id;
+
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+
+// UUID versión 7 (RFC 9562): 48 bits de milisegundos Unix + contador de 12 bits + 62 bits aleatorios.
+// Ordenados por tiempo de creación, así las inserciones caen al final del índice clustered
+public final class UuidV7 {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final int COUNTER_MAX = 0xFFF;
+    // ReentrantLock y no synchronized: un hilo virtual que espera el lock no queda fijado a su portador
+    private static final ReentrantLock LOCK = new ReentrantLock();
+
+    private static long lastMillis = -1L;
+    private static int counter;
+
+    private UuidV7() {
+    }
+
+    public static UUID randomUuid() {
+        long millis;
+        int sequence;
+        // El punto de partida del contador se sortea fuera del lock; SecureRandom sincroniza internamente
+        int counterSeed = ThreadLocalRandom.current().nextInt(COUNTER_MAX >> 1);
+
+        LOCK.lock();
+        try {
+            millis = Math.max(System.currentTimeMillis(), lastMillis);
+
+            // Dentro del mismo milisegundo el contador mantiene el orden; si se agota se adelanta el reloj
+            if (millis == lastMillis) {
+                if (counter == COUNTER_MAX) {
+                    millis++;
+                    counter = counterSeed;
+                } else {
+                    counter++;
+                }
+            } else {
+                counter = counterSeed;
+            }
+
+            lastMillis = millis;
+            sequence = counter;
+        } finally {
+            LOCK.unlock();
+        }
+
+        long msb = (millis << 16) | 0x7000L | sequence;
+        long lsb = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+
+        return new UUID(msb, lsb);
+    }
+
+    // El menor UUIDv7 de ese milisegundo: cota para recorrer por id todo lo creado desde un instante
+    public static UUID lowerBound(Instant instant) {
+        return new UUID((instant.toEpochMilli() << 16) | 0x7000L, 0x8000000000000000L);
+    }
+}
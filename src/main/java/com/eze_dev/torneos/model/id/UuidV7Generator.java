@@ -0,0 +1,22 @@
+package com.eze_dev.torneos.model.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.util.EnumSet;
+
+// Hibernate 6.6 sólo trae estrategias v1 y v4 para @UuidGenerator, por eso el generador propio
+public class UuidV7Generator implements BeforeExecutionGenerator {
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return UuidV7.randomUuid();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
@@ -0,0 +1,28 @@
+package com.eze_dev.torneos.model.snapshot;
+
+import com.eze_dev.torneos.types.MatchStatus;
+
+import java.util.UUID;
+
+// Las parejas van por índice; NONE reemplaza a los null de la entidad (pair2 en un BYE, ronda, cuadro y grupo)
+public record MatchSnapshot(UUID id, int pair1, int pair2, int pair1Score, int pair2Score, MatchStatus status,
+                            int round, int bracketPosition, int groupNumber) {
+
+    public static final int NONE = -1;
+
+    public boolean completed() {
+        return status == MatchStatus.COMPLETED;
+    }
+
+    public boolean inBracket() {
+        return bracketPosition != NONE;
+    }
+
+    public boolean inGroup() {
+        return groupNumber != NONE;
+    }
+
+    public boolean hasPair2() {
+        return pair2 != NONE;
+    }
+}
@@ -0,0 +1,7 @@
+package com.eze_dev.torneos.model.snapshot;
+
+import java.util.UUID;
+
+// index es la posición de la pareja en TournamentSnapshot.pairs
+public record PairSnapshot(int index, UUID id, String teamName, UUID player1Id, UUID player2Id) {
+}
@@ -0,0 +1,101 @@
+package com.eze_dev.torneos.model.snapshot;
+
+import com.eze_dev.torneos.model.Match;
+import com.eze_dev.torneos.model.Pair;
+import com.eze_dev.torneos.model.Tournament;
+import com.eze_dev.torneos.repository.projection.TournamentSnapshotRow;
+import com.eze_dev.torneos.types.*;
+
+import java.util.*;
+
+// Vista inmutable de un torneo para las lecturas: sin proxies, sin contexto de persistencia y segura entre hilos.
+// Se arma desde la consulta de proyección de TournamentRepository (findSnapshotRowsById / findSnapshotRowsByStatus
+// y fromRows) o, con of, a partir de un torneo ya cargado
+public record TournamentSnapshot(UUID id, long version, TournamentType tournamentType, CategoryType categoryType,
+                                 GenderType genderType, TournamentStatus status,
+                                 List<PairSnapshot> pairs, List<MatchSnapshot> matches) {
+
+    public TournamentSnapshot {
+        pairs = List.copyOf(pairs);
+        matches = List.copyOf(matches);
+    }
+
+    public PairSnapshot pair(int index) {
+        return pairs.get(index);
+    }
+
+    public static TournamentSnapshot of(Tournament tournament) {
+        Map<UUID, Integer> indexByPairId = new HashMap<>();
+        List<PairSnapshot> pairs = new ArrayList<>(tournament.getPairs().size());
+
+        for (Pair pair : tournament.getPairs()) {
+            indexByPairId.put(pair.getId(), pairs.size());
+            pairs.add(new PairSnapshot(pairs.size(), pair.getId(), pair.getTeamName(),
+                    pair.getPlayer1().getId(), pair.getPlayer2().getId()));
+        }
+
+        List<MatchSnapshot> matches = new ArrayList<>(tournament.getMatches().size());
+
+        for (Match match : tournament.getMatches()) {
+            matches.add(new MatchSnapshot(match.getId(),
+                    indexOf(indexByPairId, match.getPair1().getId()),
+                    match.getPair2() != null ? indexOf(indexByPairId, match.getPair2().getId()) : MatchSnapshot.NONE,
+                    orZero(match.getPair1Score()), orZero(match.getPair2Score()), match.getStatus(),
+                    orNone(match.getRound()), orNone(match.getBracketPosition()), orNone(match.getGroupNumber())));
+        }
+
+        return new TournamentSnapshot(tournament.getId(), tournament.getVersion() != null ? tournament.getVersion() : 0,
+                tournament.getTournamentType(), tournament.getCategoryType(), tournament.getGenderType(),
+                tournament.getStatus(), pairs, matches);
+    }
+
+    // Filas de un único torneo; las parejas quedan en el orden en que aparecen
+    public static TournamentSnapshot fromRows(List<TournamentSnapshotRow> rows) {
+        TournamentSnapshotRow first = rows.get(0);
+        Map<UUID, Integer> indexByPairId = new HashMap<>();
+        List<PairSnapshot> pairs = new ArrayList<>();
+
+        for (TournamentSnapshotRow row : rows) {
+            if (row.pairId() != null && !indexByPairId.containsKey(row.pairId())) {
+                indexByPairId.put(row.pairId(), pairs.size());
+                pairs.add(new PairSnapshot(pairs.size(), row.pairId(), row.teamName(), row.player1Id(), row.player2Id()));
+            }
+        }
+
+        // Segunda pasada: la pareja 2 de un partido puede aparecer en una fila posterior
+        List<MatchSnapshot> matches = new ArrayList<>();
+
+        for (TournamentSnapshotRow row : rows) {
+            if (row.matchId() == null) {
+                continue;
+            }
+
+            matches.add(new MatchSnapshot(row.matchId(),
+                    indexOf(indexByPairId, row.pairId()),
+                    row.matchPair2Id() != null ? indexOf(indexByPairId, row.matchPair2Id()) : MatchSnapshot.NONE,
+                    orZero(row.pair1Score()), orZero(row.pair2Score()), row.matchStatus(),
+                    orNone(row.round()), orNone(row.bracketPosition()), orNone(row.groupNumber())));
+        }
+
+        return new TournamentSnapshot(first.tournamentId(), first.version() != null ? first.version() : 0,
+                first.tournamentType(), first.categoryType(), first.genderType(), first.status(), pairs, matches);
+    }
+
+    private static int indexOf(Map<UUID, Integer> indexByPairId, UUID pairId) {
+        Integer index = indexByPairId.get(pairId);
+
+        if (index == null) {
+            throw new IllegalStateException("Pair not found in tournament: " + pairId);
+        }
+
+        return index;
+    }
+
+    private static int orZero(Integer value) {
+        return value != null ? value : 0;
+    }
+
+    private static int orNone(Integer value) {
+        return value != null ? value : MatchSnapshot.NONE;
+    }
+}
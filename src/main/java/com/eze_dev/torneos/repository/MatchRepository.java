@@ -1,14 +1,40 @@
 package com.eze_dev.torneos.repository;
 
 import com.eze_dev.torneos.model.Match;
+import com.eze_dev.torneos.types.MatchStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface MatchRepository extends JpaRepository<Match, UUID> {
 
     List<Match> findByTournamentId(UUID tournamentId);
+
+    boolean existsByTournamentIdAndStatus(UUID tournamentId, MatchStatus status);
+
+    Optional<Match> findByTournamentIdAndRoundAndBracketPosition(UUID tournamentId, Integer round, Integer bracketPosition);
+
+    long countByTournamentIdAndRoundAndBracketPositionIsNotNull(UUID tournamentId, Integer round);
+
+    boolean existsByTournamentIdAndBracketPositionIsNotNull(UUID tournamentId);
+
+    boolean existsByTournamentIdAndGroupNumberIsNotNullAndStatus(UUID tournamentId, MatchStatus status);
+
+    @Query("SELECT m FROM Match m " +
+            "JOIN FETCH m.pair1 p1 JOIN FETCH p1.player1 JOIN FETCH p1.player2 " +
+            "JOIN FETCH m.pair2 p2 JOIN FETCH p2.player1 JOIN FETCH p2.player2 " +
+            "WHERE m.status = :status")
+    List<Match> findByStatusWithPlayers(@Param("status") MatchStatus status);
+
+    @Query("SELECT m FROM Match m " +
+            "JOIN FETCH m.pair1 p1 JOIN FETCH p1.player1 JOIN FETCH p1.player2 " +
+            "JOIN FETCH m.pair2 p2 JOIN FETCH p2.player1 JOIN FETCH p2.player2 " +
+            "WHERE m.tournament.id = :tournamentId AND m.status = :status")
+    List<Match> findByTournamentIdAndStatusWithPlayers(@Param("tournamentId") UUID tournamentId, @Param("status") MatchStatus status);
 }
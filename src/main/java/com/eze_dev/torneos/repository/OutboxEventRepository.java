@@ -0,0 +1,84 @@
+package com.eze_dev.torneos.repository;
+
+import com.eze_dev.torneos.model.OutboxEvent;
+import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+// Las actualizaciones llevan su propia transacción: el despachador no tiene una abierta mientras corren los oyentes
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, UUID> {
+
+    // Pendientes en orden de alta y sin un reclamo vigente; los que agotaron los reintentos quedan fuera hasta un replay.
+    // Tampoco se toma un evento mientras otro anterior del mismo torneo está reclamado, para no adelantarlo
+    @Query("""
+    SELECT e.id FROM OutboxEvent e
+    WHERE e.dispatchedAt IS NULL AND e.attempts < :maxAttempts
+    AND (e.claimedUntil IS NULL OR e.claimedUntil < :now)
+    AND NOT EXISTS (
+        SELECT 1 FROM OutboxEvent earlier
+        WHERE earlier.tournamentId = e.tournamentId AND earlier.id < e.id
+        AND earlier.dispatchedAt IS NULL AND earlier.claimedUntil >= :now
+    )
+    ORDER BY e.id
+    """)
+    List<UUID> findClaimable(@Param("maxAttempts") int maxAttempts, @Param("now") LocalDateTime now, Limit limit);
+
+    // El UPDATE vuelve a evaluar la condición sobre cada fila bloqueada: si dos despachadores eligen el mismo
+    // evento, sólo el primero lo reclama y el otro no lo ve cambiado a su nombre
+    @Transactional
+    @Modifying
+    @Query("""
+    UPDATE OutboxEvent e SET e.claimedBy = :claimedBy, e.claimedUntil = :claimedUntil
+    WHERE e.id IN :ids AND e.dispatchedAt IS NULL
+    AND (e.claimedUntil IS NULL OR e.claimedUntil < :now)
+    """)
+    int claim(@Param("ids") Collection<UUID> ids, @Param("claimedBy") String claimedBy,
+              @Param("claimedUntil") LocalDateTime claimedUntil, @Param("now") LocalDateTime now);
+
+    @Query("SELECT e FROM OutboxEvent e WHERE e.claimedBy = :claimedBy AND e.dispatchedAt IS NULL ORDER BY e.id")
+    List<OutboxEvent> findClaimed(@Param("claimedBy") String claimedBy);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.claimedBy = NULL, e.claimedUntil = NULL WHERE e.id IN :ids")
+    int release(@Param("ids") Collection<UUID> ids);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.dispatchedAt = :dispatchedAt WHERE e.id IN :ids")
+    int markDispatched(@Param("ids") Collection<UUID> ids, @Param("dispatchedAt") LocalDateTime dispatchedAt);
+
+    @Transactional
+    @Modifying
+    @Query("""
+    UPDATE OutboxEvent e SET e.attempts = e.attempts + 1, e.lastError = :error, e.claimedBy = NULL, e.claimedUntil = NULL
+    WHERE e.id = :id
+    """)
+    int recordFailure(@Param("id") UUID id, @Param("error") String error);
+
+    // fromId es la cota inferior de UuidV7 para una fecha: recorre la clave primaria en vez de created_at
+    @Transactional
+    @Modifying
+    @Query("""
+    UPDATE OutboxEvent e SET e.dispatchedAt = NULL, e.attempts = 0, e.lastError = NULL,
+        e.claimedBy = NULL, e.claimedUntil = NULL
+    WHERE e.id >= :fromId
+    AND (:tournamentId IS NULL OR e.tournamentId = :tournamentId)
+    """)
+    int resetFrom(@Param("fromId") UUID fromId, @Param("tournamentId") UUID tournamentId);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.dispatchedAt < :before")
+    int deleteDispatchedBefore(@Param("before") LocalDateTime before);
+}
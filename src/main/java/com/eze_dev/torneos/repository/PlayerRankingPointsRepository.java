@@ -0,0 +1,160 @@
+package com.eze_dev.torneos.repository;
+
+import com.eze_dev.torneos.dto.response.PlayerRankingResponseDto;
+import com.eze_dev.torneos.model.PlayerRankingPoints;
+import com.eze_dev.torneos.model.PlayerRankingPointsId;
+import com.eze_dev.torneos.types.CategoryType;
+import com.eze_dev.torneos.types.GenderType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface PlayerRankingPointsRepository extends JpaRepository<PlayerRankingPoints, PlayerRankingPointsId> {
+
+    @Query("""
+    SELECT new com.eze_dev.torneos.dto.response.PlayerRankingResponseDto(
+        p.id, p.name, p.lastName, p.genderType,
+        CAST(SUM(r.totalPoints) AS Integer), CAST(SUM(r.tournamentsPlayed) AS Integer)
+    )
+    FROM PlayerRankingPoints r
+    JOIN r.player p
+    WHERE (:category IS NULL OR r.id.categoryType = :category)
+    AND (:gender IS NULL OR r.id.genderType = :gender)
+    GROUP BY p.id, p.name, p.lastName, p.genderType
+    ORDER BY SUM(r.totalPoints) DESC, p.id ASC
+    """)
+    List<PlayerRankingResponseDto> findRankings(
+            @Param("category") CategoryType category,
+            @Param("gender") GenderType gender,
+            Limit limit
+    );
+
+    @Query(value = """
+    SELECT new com.eze_dev.torneos.dto.response.PlayerRankingResponseDto(
+        p.id, p.name, p.lastName, p.genderType,
+        CAST(SUM(r.totalPoints) AS Integer), CAST(SUM(r.tournamentsPlayed) AS Integer)
+    )
+    FROM PlayerRankingPoints r
+    JOIN r.player p
+    WHERE (:category IS NULL OR r.id.categoryType = :category)
+    AND (:gender IS NULL OR r.id.genderType = :gender)
+    GROUP BY p.id, p.name, p.lastName, p.genderType
+    ORDER BY SUM(r.totalPoints) DESC, p.id ASC
+    """,
+            countQuery = """
+    SELECT COUNT(DISTINCT r.id.playerId)
+    FROM PlayerRankingPoints r
+    WHERE (:category IS NULL OR r.id.categoryType = :category)
+    AND (:gender IS NULL OR r.id.genderType = :gender)
+    """)
+    Page<PlayerRankingResponseDto> findRankings(
+            @Param("category") CategoryType category,
+            @Param("gender") GenderType gender,
+            Pageable pageable
+    );
+
+    // Paginación por cursor dentro de una categoría y género: hay una fila por jugador, así que el cursor se
+    // compara contra la columna total_points y la consulta es un rango de idx_ranking_category_gender_seek
+    @Query("""
+    SELECT new com.eze_dev.torneos.dto.response.PlayerRankingResponseDto(
+        p.id, p.name, p.lastName, p.genderType, r.totalPoints, r.tournamentsPlayed
+    )
+    FROM PlayerRankingPoints r
+    JOIN r.player p
+    WHERE r.id.categoryType = :category
+    AND r.id.genderType = :gender
+    ORDER BY r.totalPoints DESC, r.id.playerId ASC
+    """)
+    List<PlayerRankingResponseDto> findCategoryRankings(
+            @Param("category") CategoryType category,
+            @Param("gender") GenderType gender,
+            Limit limit
+    );
+
+    @Query("""
+    SELECT new com.eze_dev.torneos.dto.response.PlayerRankingResponseDto(
+        p.id, p.name, p.lastName, p.genderType, r.totalPoints, r.tournamentsPlayed
+    )
+    FROM PlayerRankingPoints r
+    JOIN r.player p
+    WHERE r.id.categoryType = :category
+    AND r.id.genderType = :gender
+    AND (r.totalPoints < :afterPoints OR (r.totalPoints = :afterPoints AND r.id.playerId > :afterId))
+    ORDER BY r.totalPoints DESC, r.id.playerId ASC
+    """)
+    List<PlayerRankingResponseDto> findCategoryRankingsAfter(
+            @Param("category") CategoryType category,
+            @Param("gender") GenderType gender,
+            @Param("afterPoints") long afterPoints,
+            @Param("afterId") UUID afterId,
+            Limit limit
+    );
+
+    // Paginación por cursor sumando varias categorías o géneros: evita el OFFSET, pero el total por jugador
+    // no está materializado, así que el filtro del cursor va en el HAVING y cada página agrupa todas las filas
+    @Query("""
+    SELECT new com.eze_dev.torneos.dto.response.PlayerRankingResponseDto(
+        p.id, p.name, p.lastName, p.genderType,
+        CAST(SUM(r.totalPoints) AS Integer), CAST(SUM(r.tournamentsPlayed) AS Integer)
+    )
+    FROM PlayerRankingPoints r
+    JOIN r.player p
+    WHERE (:category IS NULL OR r.id.categoryType = :category)
+    AND (:gender IS NULL OR r.id.genderType = :gender)
+    GROUP BY p.id, p.name, p.lastName, p.genderType
+    HAVING SUM(r.totalPoints) < :afterPoints
+    OR (SUM(r.totalPoints) = :afterPoints AND p.id > :afterId)
+    ORDER BY SUM(r.totalPoints) DESC, p.id ASC
+    """)
+    List<PlayerRankingResponseDto> findRankingsAfter(
+            @Param("category") CategoryType category,
+            @Param("gender") GenderType gender,
+            @Param("afterPoints") long afterPoints,
+            @Param("afterId") UUID afterId,
+            Limit limit
+    );
+
+    @Query("""
+    SELECT r FROM PlayerRankingPoints r
+    WHERE r.id.categoryType = :category
+    AND r.id.genderType = :gender
+    AND r.id.playerId IN :playerIds
+    """)
+    List<PlayerRankingPoints> findByCategoryAndGenderAndPlayerIds(
+            @Param("category") CategoryType category,
+            @Param("gender") GenderType gender,
+            @Param("playerIds") Collection<UUID> playerIds
+    );
+
+    // Upsert atómico igual que en PlayerStandingRepository: el primer torneo de un jugador en la categoría
+    // crea la fila sin pasar por save (que con la clave asignada haría un SELECT antes del INSERT)
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "player_ranking_points"))
+    @Query(value = """
+    INSERT INTO player_ranking_points (player_id, category_type, gender_type, total_points, tournaments_played)
+    VALUES (:playerId, :category, :gender, :points, :tournaments)
+    ON DUPLICATE KEY UPDATE
+        total_points = total_points + VALUES(total_points),
+        tournaments_played = tournaments_played + VALUES(tournaments_played)
+    """, nativeQuery = true)
+    int applyDelta(
+            @Param("playerId") UUID playerId,
+            @Param("category") String category,
+            @Param("gender") String gender,
+            @Param("points") int points,
+            @Param("tournaments") int tournaments
+    );
+}
@@ -0,0 +1,53 @@
+package com.eze_dev.torneos.repository;
+
+import com.eze_dev.torneos.model.PlayerStanding;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface PlayerStandingRepository extends JpaRepository<PlayerStanding, UUID> {
+
+    @Query("SELECT s FROM PlayerStanding s JOIN FETCH s.player WHERE s.playerId = :playerId")
+    Optional<PlayerStanding> findWithPlayerByPlayerId(@Param("playerId") UUID playerId);
+
+    @Query("""
+    SELECT s FROM PlayerStanding s
+    JOIN FETCH s.player
+    ORDER BY
+        CASE WHEN s.matchesPlayed > 0 THEN (s.matchesWon * 1.0) / s.matchesPlayed ELSE 0 END DESC,
+        s.matchesWon DESC
+    """)
+    List<PlayerStanding> findAllOrderedByEfficiency();
+
+    // Upsert atómico: dos primeros resultados concurrentes del mismo jugador no chocan en la clave primaria
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "player_standings"))
+    @Query(value = """
+    INSERT INTO player_standings (player_id, matches_played, matches_won, matches_lost, games_won, games_lost)
+    VALUES (:playerId, :matchesPlayed, :matchesWon, :matchesLost, :gamesWon, :gamesLost)
+    ON DUPLICATE KEY UPDATE
+        matches_played = matches_played + VALUES(matches_played),
+        matches_won = matches_won + VALUES(matches_won),
+        matches_lost = matches_lost + VALUES(matches_lost),
+        games_won = games_won + VALUES(games_won),
+        games_lost = games_lost + VALUES(games_lost)
+    """, nativeQuery = true)
+    int applyDelta(
+            @Param("playerId") UUID playerId,
+            @Param("matchesPlayed") int matchesPlayed,
+            @Param("matchesWon") int matchesWon,
+            @Param("matchesLost") int matchesLost,
+            @Param("gamesWon") int gamesWon,
+            @Param("gamesLost") int gamesLost
+    );
+}
@@ -1,12 +1,24 @@
 package com.eze_dev.torneos.repository;
 
+import com.eze_dev.torneos.dto.response.TournamentSummaryResponseDto;
 import com.eze_dev.torneos.model.Tournament;
+import com.eze_dev.torneos.repository.projection.TournamentProgressProjection;
+import com.eze_dev.torneos.repository.projection.TournamentSnapshotRow;
+import com.eze_dev.torneos.types.TournamentStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
@@ -14,8 +26,79 @@ public interface TournamentRepository extends JpaRepository<Tournament, UUID> {
 
     boolean existsByName(String name);
 
-    @Query("SELECT DISTINCT t FROM Tournament t " +
-            "JOIN t.pairs p " +
-            "WHERE p.player1.id = :playerId OR p.player2.id = :playerId")
-    List<Tournament> findTournamentsByPlayerId(@Param("playerId") UUID playerId);
+    // Pertenencia por la clave de tournament_pairs, sin inicializar la colección
+    boolean existsByIdAndPairs_Id(UUID id, UUID pairId);
+
+    // Altas y bajas directas sobre la tabla de unión, sin cargar el Set de parejas del torneo. El espacio de
+    // consulta hace que Hibernate invalide sólo la caché de esa colección y no todas las regiones
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tournament_pairs"))
+    @Query(value = "INSERT INTO tournament_pairs (tournament_id, pair_id) VALUES (:tournamentId, :pairId)", nativeQuery = true)
+    int addPair(@Param("tournamentId") UUID tournamentId, @Param("pairId") UUID pairId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tournament_pairs"))
+    @Query(value = "DELETE FROM tournament_pairs WHERE tournament_id = :tournamentId AND pair_id = :pairId", nativeQuery = true)
+    int removePair(@Param("tournamentId") UUID tournamentId, @Param("pairId") UUID pairId);
+
+    // Planes de carga por caso de uso para evitar N+1 sobre parejas, jugadores y partidos
+    @EntityGraph(Tournament.GRAPH_PAIRS)
+    Optional<Tournament> findWithPairsById(UUID id);
+
+    @EntityGraph(Tournament.GRAPH_MATCHES)
+    Optional<Tournament> findWithMatchesById(UUID id);
+
+    // Todo lo que necesita un TournamentSnapshot en una sola consulta y sin entidades: cada partido se une
+    // a su pair1 y las parejas sin partidos salen igual por el LEFT JOIN. Ordenadas por id como Tournament.pairs,
+    // así el snapshot sale igual venga de la consulta o de la entidad
+    String SNAPSHOT_QUERY = """
+    SELECT new com.eze_dev.torneos.repository.projection.TournamentSnapshotRow(
+        t.id, t.version, t.tournamentType, t.categoryType, t.genderType, t.status,
+        p.id, p.teamName, p.player1.id, p.player2.id,
+        m.id, m.pair2.id, m.pair1Score, m.pair2Score, m.status, m.round, m.bracketPosition, m.groupNumber
+    )
+    FROM Tournament t
+    LEFT JOIN t.pairs p
+    LEFT JOIN Match m ON m.tournament = t AND m.pair1 = p
+    """;
+
+    @Query(SNAPSHOT_QUERY + "WHERE t.id = :id ORDER BY p.id, m.id")
+    List<TournamentSnapshotRow> findSnapshotRowsById(@Param("id") UUID id);
+
+    @Query(SNAPSHOT_QUERY + "WHERE t.status = :status ORDER BY t.id, p.id, m.id")
+    List<TournamentSnapshotRow> findSnapshotRowsByStatus(@Param("status") TournamentStatus status);
+
+    // SIZE() se traduce a subconsultas COUNT, sin inicializar las colecciones
+    @Query(value = """
+    SELECT new com.eze_dev.torneos.dto.response.TournamentSummaryResponseDto(
+        t.id, t.name, t.status, SIZE(t.pairs), SIZE(t.matches)
+    )
+    FROM Tournament t
+    WHERE (:status IS NULL OR t.status = :status)
+    """,
+            countQuery = "SELECT COUNT(t) FROM Tournament t WHERE (:status IS NULL OR t.status = :status)")
+    Page<TournamentSummaryResponseDto> findSummaries(@Param("status") TournamentStatus status, Pageable pageable);
+
+    @Query("""
+    SELECT new com.eze_dev.torneos.repository.projection.TournamentProgressProjection(
+        t.status,
+        COUNT(m),
+        COALESCE(SUM(CASE WHEN m.status IN (com.eze_dev.torneos.types.MatchStatus.COMPLETED, com.eze_dev.torneos.types.MatchStatus.BYE) THEN 1 ELSE 0 END), 0)
+    )
+    FROM Tournament t
+    LEFT JOIN t.matches m
+    WHERE t.id = :id
+    GROUP BY t.id, t.status
+    """)
+    Optional<TournamentProgressProjection> findProgressById(@Param("id") UUID id);
+
+    @Query("SELECT t.version FROM Tournament t WHERE t.id = :id")
+    Optional<Long> findVersionById(@Param("id") UUID id);
+
+    // Torneos cuyas respuestas muestran la pareja o el jugador: se recorren desde idx_tournament_pairs_pair
+    @Query("SELECT DISTINCT t.id FROM Tournament t JOIN t.pairs p WHERE p.id = :pairId")
+    List<UUID> findIdsByPairId(@Param("pairId") UUID pairId);
+
+    @Query("SELECT DISTINCT t.id FROM Tournament t JOIN t.pairs p WHERE p.player1.id = :playerId OR p.player2.id = :playerId")
+    List<UUID> findIdsByPlayerId(@Param("playerId") UUID playerId);
 }
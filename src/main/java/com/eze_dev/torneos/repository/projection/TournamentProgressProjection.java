@@ -0,0 +1,6 @@
+package com.eze_dev.torneos.repository.projection;
+
+import com.eze_dev.torneos.types.TournamentStatus;
+
+public record TournamentProgressProjection(TournamentStatus status, long totalMatches, long completedMatches) {
+}
@@ -0,0 +1,13 @@
+package com.eze_dev.torneos.repository.projection;
+
+import com.eze_dev.torneos.types.*;
+
+import java.util.UUID;
+
+// Una fila por partido (del lado de pair1) y una por pareja sin partidos; las columnas del partido vienen null en esas
+public record TournamentSnapshotRow(UUID tournamentId, Long version, TournamentType tournamentType,
+                                    CategoryType categoryType, GenderType genderType, TournamentStatus status,
+                                    UUID pairId, String teamName, UUID player1Id, UUID player2Id,
+                                    UUID matchId, UUID matchPair2Id, Integer pair1Score, Integer pair2Score,
+                                    MatchStatus matchStatus, Integer round, Integer bracketPosition, Integer groupNumber) {
+}
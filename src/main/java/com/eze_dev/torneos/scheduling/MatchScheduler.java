@@ -0,0 +1,145 @@
+package com.eze_dev.torneos.scheduling;
+
+import com.eze_dev.torneos.model.Match;
+import com.eze_dev.torneos.model.Pair;
+import com.eze_dev.torneos.model.Tournament;
+import com.eze_dev.torneos.types.MatchStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+// Asignación voraz de (cancha, turno): cada partido va al primer turno con una cancha libre en el que
+// ninguna de sus parejas esté descansando y ninguno de sus jugadores esté jugando en otra cancha.
+// Se controla por jugador y no por pareja porque un jugador puede integrar varias parejas.
+@Component
+public class MatchScheduler {
+
+    private static final String PLAYER_OVERLAP_MSG = "Player %s is scheduled in two simultaneous matches.";
+
+    private final int defaultCourts;
+    private final int defaultSlotMinutes;
+    private final int defaultMinRestMinutes;
+
+    public MatchScheduler(@Value("${torneos.scheduling.courts:4}") int defaultCourts,
+                          @Value("${torneos.scheduling.slot-minutes:60}") int defaultSlotMinutes,
+                          @Value("${torneos.scheduling.min-rest-minutes:0}") int defaultMinRestMinutes) {
+        this.defaultCourts = defaultCourts;
+        this.defaultSlotMinutes = defaultSlotMinutes;
+        this.defaultMinRestMinutes = defaultMinRestMinutes;
+    }
+
+    // Hora del primer turno de un torneo: su fecha de inicio o, si no la tiene, ahora
+    public static LocalDateTime baseTime(Tournament tournament) {
+        return tournament.getStartDate() != null
+                ? tournament.getStartDate()
+                : LocalDateTime.now();
+    }
+
+    public ScheduleOptions defaultOptions(LocalDateTime startTime) {
+        return new ScheduleOptions(startTime, defaultCourts, defaultSlotMinutes, defaultMinRestMinutes);
+    }
+
+    // Los partidos se recorren por ronda, así una pareja nunca juega su ronda N+1 antes que la N
+    public void schedule(List<Match> matches, ScheduleOptions options) {
+        List<Match> ordered = new ArrayList<>(matches.size());
+        for (Match match : matches) {
+            if (match.getStatus() != MatchStatus.BYE) {
+                ordered.add(match);
+            }
+        }
+        ordered.sort(Comparator.comparingInt(match -> match.getRound() != null ? match.getRound() : 0));
+
+        int restSlots = options.restSlots();
+        int[] courtsInUse = new int[Math.max(16, ordered.size())];
+        Map<UUID, Integer> pairNextSlot = new HashMap<>();
+        Map<UUID, BitSet> playerBusySlots = new HashMap<>();
+
+        for (Match match : ordered) {
+            List<UUID> players = players(match);
+            int slot = Math.max(pairNextSlot.getOrDefault(match.getPair1().getId(), 0),
+                    pairNextSlot.getOrDefault(match.getPair2().getId(), 0));
+
+            while (courtsInUse[slot] >= options.courts() || anyBusy(playerBusySlots, players, slot)) {
+                slot++;
+
+                if (slot == courtsInUse.length) {
+                    courtsInUse = Arrays.copyOf(courtsInUse, courtsInUse.length * 2);
+                }
+            }
+
+            match.setCourt(courtsInUse[slot] + 1);
+            match.setScheduledDate(options.startTime().plusMinutes((long) slot * options.slotMinutes()));
+            courtsInUse[slot]++;
+
+            for (UUID player : players) {
+                playerBusySlots.computeIfAbsent(player, id -> new BitSet()).set(slot);
+            }
+
+            pairNextSlot.put(match.getPair1().getId(), slot + 1 + restSlots);
+            pairNextSlot.put(match.getPair2().getId(), slot + 1 + restSlots);
+        }
+    }
+
+    // Rechaza un cronograma en el que algún jugador tenga dos partidos superpuestos
+    public void validate(Collection<Match> matches, int slotMinutes) {
+        String conflict = findPlayerOverlap(matches, slotMinutes);
+
+        if (conflict != null) {
+            throw new IllegalStateException(String.format(PLAYER_OVERLAP_MSG, conflict));
+        }
+    }
+
+    public boolean hasPlayerOverlap(Collection<Match> matches, int slotMinutes) {
+        return findPlayerOverlap(matches, slotMinutes) != null;
+    }
+
+    private String findPlayerOverlap(Collection<Match> matches, int slotMinutes) {
+        Map<UUID, List<LocalDateTime>> startsByPlayer = new HashMap<>();
+
+        for (Match match : matches) {
+            if (match.getStatus() == MatchStatus.BYE || match.getScheduledDate() == null) {
+                continue;
+            }
+
+            for (UUID player : players(match)) {
+                startsByPlayer.computeIfAbsent(player, id -> new ArrayList<>()).add(match.getScheduledDate());
+            }
+        }
+
+        Duration slot = Duration.ofMinutes(slotMinutes);
+
+        for (Map.Entry<UUID, List<LocalDateTime>> entry : startsByPlayer.entrySet()) {
+            List<LocalDateTime> starts = entry.getValue();
+            starts.sort(Comparator.naturalOrder());
+
+            for (int i = 1; i < starts.size(); i++) {
+                if (starts.get(i).isBefore(starts.get(i - 1).plus(slot))) {
+                    return entry.getKey().toString();
+                }
+            }
+        }
+        return null;
+    }
+
+    private boolean anyBusy(Map<UUID, BitSet> playerBusySlots, List<UUID> players, int slot) {
+        for (UUID player : players) {
+            BitSet busy = playerBusySlots.get(player);
+
+            if (busy != null && busy.get(slot)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private List<UUID> players(Match match) {
+        Pair pair1 = match.getPair1();
+        Pair pair2 = match.getPair2();
+
+        return List.of(pair1.getPlayer1().getId(), pair1.getPlayer2().getId(),
+                pair2.getPlayer1().getId(), pair2.getPlayer2().getId());
+    }
+}
@@ -0,0 +1,20 @@
+package com.eze_dev.torneos.scheduling;
+
+import java.time.LocalDateTime;
+
+public record ScheduleOptions(LocalDateTime startTime, int courts, int slotMinutes, int minRestMinutes) {
+
+    public ScheduleOptions {
+        if (startTime == null) {
+            throw new IllegalArgumentException("Schedule start time is required.");
+        }
+        if (courts < 1 || slotMinutes < 1 || minRestMinutes < 0) {
+            throw new IllegalArgumentException("Courts and slot minutes must be positive and rest cannot be negative.");
+        }
+    }
+
+    // Turnos completos que una pareja descansa entre dos partidos
+    int restSlots() {
+        return (minRestMinutes + slotMinutes - 1) / slotMinutes;
+    }
+}
@@ -0,0 +1,59 @@
+package com.eze_dev.torneos.service.implementations;
+
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+// Un espectador conectado: su propio hilo virtual escribe los eventos en orden, así un cliente lento
+// no demora a los demás. Si la cola se llena se corta la conexión y el navegador reconecta con un snapshot
+final class LiveSubscriber {
+
+    private static final int QUEUE_CAPACITY = 64;
+
+    private final SseEmitter emitter;
+    private final BlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final Thread writer;
+    private volatile boolean closed;
+
+    LiveSubscriber(SseEmitter emitter, String name) {
+        this.emitter = emitter;
+        this.writer = Thread.ofVirtual().name(name).unstarted(this::drain);
+    }
+
+    SseEmitter emitter() {
+        return emitter;
+    }
+
+    void start() {
+        writer.start();
+    }
+
+    void offer(Set<ResponseBodyEmitter.DataWithMediaType> event) {
+        if (!closed && !queue.offer(event)) {
+            close();
+            emitter.complete();
+        }
+    }
+
+    void close() {
+        closed = true;
+        writer.interrupt();
+    }
+
+    private void drain() {
+        try {
+            while (!closed) {
+                emitter.send(queue.take());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | IllegalStateException e) {
+            // El cliente se desconectó o el emisor ya estaba completo: el contenedor cierra la respuesta
+            closed = true;
+        }
+    }
+}
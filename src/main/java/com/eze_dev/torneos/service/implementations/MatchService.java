@@ -1,55 +1,203 @@
 package com.eze_dev.torneos.service.implementations;
 
 import com.eze_dev.torneos.dto.response.MatchResponseDto;
-import com.eze_dev.torneos.dto.response.TournamentResponseDto;
+import com.eze_dev.torneos.dto.response.MatchResultOutcomeResponseDto;
 import com.eze_dev.torneos.dto.update.MatchResultUpdateDto;
+import com.eze_dev.torneos.event.MatchResultsRecordedEvent;
+import com.eze_dev.torneos.event.TournamentChangedEvent;
 import com.eze_dev.torneos.mapper.MatchMapper;
 import com.eze_dev.torneos.model.Match;
+import com.eze_dev.torneos.model.Tournament;
 import com.eze_dev.torneos.repository.MatchRepository;
 import com.eze_dev.torneos.service.interfaces.IMatchService;
-import com.eze_dev.torneos.service.interfaces.ITournamentService;
+import com.eze_dev.torneos.service.interfaces.IOutboxService;
+import com.eze_dev.torneos.service.interfaces.IPlayerStandingService;
+import com.eze_dev.torneos.strategy.tournament.TournamentStrategy;
+import com.eze_dev.torneos.strategy.tournament.TournamentStrategyFactory;
 import com.eze_dev.torneos.types.MatchStatus;
+import com.eze_dev.torneos.types.OutboxEventType;
+import com.eze_dev.torneos.types.TournamentStatus;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.LockModeType;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
-import java.util.UUID;
+import java.util.*;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class MatchService implements IMatchService {
 
+    private static final String BYE_RESULT_MSG = "A bye has no result to update.";
+    private static final String MATCH_NOT_FOUND_MSG = "Match not found with ID: ";
+    private static final String MATCH_NOT_IN_TOURNAMENT_MSG = "Match does not belong to the tournament.";
+
     private final MatchRepository matchRepository;
+    private final EntityManager entityManager;
     private final MatchMapper matchMapper;
-    private final ITournamentService tournamentService;
+    private final IPlayerStandingService playerStandingService;
+    private final IOutboxService outboxService;
+    private final TournamentStrategyFactory tournamentStrategyFactory;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
     public MatchResponseDto updateMatchResult(UUID tournamentId, UUID matchId, MatchResultUpdateDto dto) {
         Match match = getMatch(matchId);
+        Tournament tournament = match.getTournament();
+
+        if (!tournament.getId().equals(tournamentId)) {
+            throw new IllegalArgumentException(MATCH_NOT_IN_TOURNAMENT_MSG);
+        }
+
+        if (match.getStatus() == MatchStatus.BYE) {
+            throw new IllegalStateException(BYE_RESULT_MSG);
+        }
+
+        getStrategy(tournament).validateResult(match, dto.getPair1Score(), dto.getPair2Score(), Set.of());
 
-        match.setPair1Score(dto.getPair1Score());
-        match.setPair2Score(dto.getPair2Score());
-        match.setStatus(MatchStatus.COMPLETED);
+        applyResults(tournament, List.of(match), Map.of(matchId, dto));
 
-        matchRepository.save(match);
         log.info("Match {} updated and marked as COMPLETED", matchId);
+        return matchMapper.toDto(match);
+    }
+
+    // Todos los resultados se validan primero, cada uno también frente al resto del lote (un cambio de ganador
+    // no puede venir junto con el partido siguiente del cuadro): los rechazados se informan por ítem y el resto se aplica
+    // en la misma transacción, con un solo recálculo de puntos y un solo evento para el outbox
+    @Override
+    @Transactional
+    public List<MatchResultOutcomeResponseDto> updateMatchResults(UUID tournamentId, Map<UUID, MatchResultUpdateDto> results) {
+        Map<UUID, Match> matchesById = new HashMap<>();
+        matchRepository.findAllById(results.keySet()).forEach(match -> matchesById.put(match.getId(), match));
+
+        Map<UUID, MatchResultOutcomeResponseDto> outcomes = new LinkedHashMap<>();
+        List<Match> accepted = new ArrayList<>();
+
+        for (Map.Entry<UUID, MatchResultUpdateDto> entry : results.entrySet()) {
+            Match match = matchesById.get(entry.getKey());
+            String error = validateBatchItem(tournamentId, entry.getKey(), match, entry.getValue(), results.keySet());
+
+            if (error != null) {
+                outcomes.put(entry.getKey(), MatchResultOutcomeResponseDto.builder()
+                        .matchId(entry.getKey())
+                        .updated(false)
+                        .error(error)
+                        .build());
+            } else {
+                accepted.add(match);
+            }
+        }
+
+        if (!accepted.isEmpty()) {
+            applyResults(accepted.get(0).getTournament(), accepted, results);
+        }
+
+        for (Match match : accepted) {
+            outcomes.put(match.getId(), MatchResultOutcomeResponseDto.builder()
+                    .matchId(match.getId())
+                    .updated(true)
+                    .match(matchMapper.toDto(match))
+                    .build());
+        }
+
+        log.info("Batch result update for tournament {}: {} applied, {} rejected",
+                tournamentId, accepted.size(), results.size() - accepted.size());
+
+        return results.keySet().stream()
+                .map(outcomes::get)
+                .toList();
+    }
+
+    private void applyResults(Tournament tournament, List<Match> matches, Map<UUID, MatchResultUpdateDto> results) {
+        boolean tournamentFinished = tournament.getStatus() == TournamentStatus.FINISHED;
+
+        // Corregir un resultado de un torneo finalizado también cambia los puntos de ranking ya otorgados
+        if (tournamentFinished) {
+            playerStandingService.revertTournamentPoints(tournament);
+        }
+
+        // Si el partido ya tenía resultado, se descuenta antes de aplicar el nuevo
+        List<Match> previousResults = matches.stream()
+                .filter(match -> match.getStatus() == MatchStatus.COMPLETED)
+                .map(this::copyResult)
+                .toList();
+
+        for (Match match : matches) {
+            MatchResultUpdateDto dto = results.get(match.getId());
+
+            match.setPair1Score(dto.getPair1Score());
+            match.setPair2Score(dto.getPair2Score());
+            match.setStatus(MatchStatus.COMPLETED);
+        }
+
+        matchRepository.saveAll(matches);
+        // Los partidos no son parte de la fila del torneo: la versión (y con ella el ETag) se sube a mano
+        entityManager.lock(tournament, LockModeType.OPTIMISTIC_FORCE_INCREMENT);
+        playerStandingService.applyMatchResults(previousResults, matches);
+
+        // En eliminación directa esto crea o actualiza el partido de la ronda siguiente,
+        // así que se procesan primero las rondas anteriores
+        TournamentStrategy strategy = getStrategy(tournament);
+        matches.stream()
+                .sorted(Comparator.comparingInt(match -> match.getRound() != null ? match.getRound() : 0))
+                .forEach(strategy::onMatchCompleted);
+
+        if (tournamentFinished) {
+            playerStandingService.recordTournamentPoints(tournament);
+        }
+
+        // Finalizar el torneo (y otorgar sus puntos de ranking) queda fuera del request: lo hace
+        // TournamentFinalizationListener cuando el despachador entrega este evento
+        outboxService.record(tournament.getId(), OutboxEventType.MATCH_RESULTS_RECORDED);
+
+        eventPublisher.publishEvent(new TournamentChangedEvent(tournament.getId()));
+        eventPublisher.publishEvent(new MatchResultsRecordedEvent(tournament.getId(), matchMapper.toDtoList(matches)));
+    }
+
+    private String validateBatchItem(UUID tournamentId, UUID matchId, Match match, MatchResultUpdateDto dto, Set<UUID> batchMatchIds) {
+        if (match == null) {
+            return MATCH_NOT_FOUND_MSG + matchId;
+        }
+
+        if (!match.getTournament().getId().equals(tournamentId)) {
+            return MATCH_NOT_IN_TOURNAMENT_MSG;
+        }
+
+        if (match.getStatus() == MatchStatus.BYE) {
+            return BYE_RESULT_MSG;
+        }
 
         try {
-            tournamentService.tryFinalizeTournamentIfCompleted(match.getTournament().getId());
-            log.info("Tournament {} finalized automatically after match update", match.getTournament().getId());
-        } catch (Exception e) {
-            log.warn("Failed to finalize tournament {} automatically: {}", match.getTournament().getId(), e.getMessage());
+            getStrategy(match.getTournament()).validateResult(match, dto.getPair1Score(), dto.getPair2Score(), batchMatchIds);
+        } catch (IllegalStateException e) {
+            return e.getMessage();
         }
-        return matchMapper.toDto(match);
+        return null;
+    }
+
+    // Copia desligada del resultado anterior, para poder descontarlo después de pisar el partido
+    private Match copyResult(Match match) {
+        return Match.builder()
+                .pair1(match.getPair1())
+                .pair2(match.getPair2())
+                .pair1Score(match.getPair1Score())
+                .pair2Score(match.getPair2Score())
+                .status(match.getStatus())
+                .build();
+    }
+
+    private TournamentStrategy getStrategy(Tournament tournament) {
+        return tournamentStrategyFactory.getStrategy(tournament.getTournamentType());
     }
 
     private Match getMatch(UUID matchId) {
         return matchRepository.findById(matchId)
-                .orElseThrow(() -> new EntityNotFoundException("Match not found with ID: " + matchId));
+                .orElseThrow(() -> new EntityNotFoundException(MATCH_NOT_FOUND_MSG + matchId));
     }
 }
-
@@ -0,0 +1,142 @@
+package com.eze_dev.torneos.service.implementations;
+
+import com.eze_dev.torneos.event.TournamentDomainEvent;
+import com.eze_dev.torneos.model.OutboxEvent;
+import com.eze_dev.torneos.model.id.UuidV7;
+import com.eze_dev.torneos.repository.OutboxEventRepository;
+import com.eze_dev.torneos.service.interfaces.IOutboxService;
+import com.eze_dev.torneos.types.OutboxEventType;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+@Slf4j
+@Service
+public class OutboxService implements IOutboxService {
+
+    private static final int ERROR_MAX_LENGTH = 500;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long claimMillis;
+
+    public OutboxService(OutboxEventRepository outboxEventRepository,
+                         ApplicationEventPublisher eventPublisher,
+                         @Value("${torneos.outbox.batch-size}") int batchSize,
+                         @Value("${torneos.outbox.max-attempts}") int maxAttempts,
+                         @Value("${torneos.outbox.claim-ms}") long claimMillis) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.claimMillis = claimMillis;
+    }
+
+    // Sólo dentro de la transacción del cambio: el evento queda escrito si y sólo si el cambio se confirma
+    @Override
+    @Transactional(Transactional.TxType.MANDATORY)
+    public void record(UUID tournamentId, OutboxEventType type) {
+        outboxEventRepository.save(OutboxEvent.builder()
+                .tournamentId(tournamentId)
+                .eventType(type)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    // Sin transacción propia: cada oyente abre la suya y el lote se marca despachado después. Si algo se corta
+    // entre medio los eventos se vuelven a entregar, así que la garantía es al menos una vez.
+    // Cada lote se reclama antes de entregarlo, así varias instancias pueden despachar sin repetir eventos;
+    // si una se cae, sus eventos quedan reclamados hasta que vence claim-ms y después los toma otra.
+    // Cuando un evento falla se saltean los siguientes del mismo torneo, para no entregarlos fuera de orden
+    @Override
+    public int dispatchPending() {
+        int dispatched = 0;
+        List<UUID> candidates;
+        Set<UUID> failedTournaments = new HashSet<>();
+
+        do {
+            LocalDateTime now = LocalDateTime.now();
+            candidates = outboxEventRepository.findClaimable(maxAttempts, now, Limit.of(batchSize));
+
+            if (candidates.isEmpty()) {
+                break;
+            }
+
+            String claimedBy = UUID.randomUUID().toString();
+            outboxEventRepository.claim(candidates, claimedBy, now.plus(claimMillis, ChronoUnit.MILLIS), now);
+
+            List<UUID> delivered = new ArrayList<>(candidates.size());
+            List<UUID> skipped = new ArrayList<>();
+
+            for (OutboxEvent event : outboxEventRepository.findClaimed(claimedBy)) {
+                if (failedTournaments.contains(event.getTournamentId())) {
+                    skipped.add(event.getId());
+                    continue;
+                }
+
+                try {
+                    eventPublisher.publishEvent(new TournamentDomainEvent(event.getId(), event.getEventType(),
+                            event.getTournamentId(), event.getCreatedAt()));
+                    delivered.add(event.getId());
+                } catch (RuntimeException e) {
+                    log.warn("Outbox event {} ({}) for tournament {} failed on attempt {}: {}", event.getId(),
+                            event.getEventType(), event.getTournamentId(), event.getAttempts() + 1, e.getMessage());
+                    failedTournaments.add(event.getTournamentId());
+                    outboxEventRepository.recordFailure(event.getId(), truncate(e.getMessage()));
+                }
+            }
+
+            if (!delivered.isEmpty()) {
+                outboxEventRepository.markDispatched(delivered, LocalDateTime.now());
+            }
+            if (!skipped.isEmpty()) {
+                outboxEventRepository.release(skipped);
+            }
+            dispatched += delivered.size();
+            // Un lote lleno sin fallas puede tener más detrás; con fallas se espera al próximo ciclo
+        } while (candidates.size() == batchSize && failedTournaments.isEmpty());
+
+        if (dispatched > 0) {
+            log.debug("Dispatched {} outbox events", dispatched);
+        }
+        return dispatched;
+    }
+
+    // Vuelve a dejar pendientes los eventos creados desde esa fecha (de un torneo o de todos), incluidos los que
+    // agotaron sus reintentos; el despachador los entrega de nuevo en su orden original
+    @Override
+    public int replay(LocalDateTime since, UUID tournamentId) {
+        UUID fromId = UuidV7.lowerBound(since.atZone(ZoneId.systemDefault()).toInstant());
+        int replayed = outboxEventRepository.resetFrom(fromId, tournamentId);
+
+        log.info("Marked {} outbox events since {} for replay{}", replayed, since,
+                tournamentId != null ? " (tournament " + tournamentId + ")" : "");
+        return replayed;
+    }
+
+    @Override
+    public int purgeDispatched(LocalDateTime before) {
+        return outboxEventRepository.deleteDispatchedBefore(before);
+    }
+
+    private String truncate(String message) {
+        if (message == null || message.length() <= ERROR_MAX_LENGTH) {
+            return message;
+        }
+        return message.substring(0, ERROR_MAX_LENGTH);
+    }
+}
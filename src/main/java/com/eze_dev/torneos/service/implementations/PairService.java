@@ -9,6 +9,7 @@ import com.eze_dev.torneos.model.Player;
 import com.eze_dev.torneos.repository.PairRepository;
 import com.eze_dev.torneos.repository.PlayerRepository;
 import com.eze_dev.torneos.service.interfaces.IPairService;
+import com.eze_dev.torneos.service.interfaces.ITournamentService;
 import jakarta.persistence.EntityExistsException;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
@@ -25,6 +26,7 @@ public class PairService implements IPairService {
     private final PairRepository pairRepository;
     private final PlayerRepository playerRepository;
     private final PairMapper pairMapper;
+    private final ITournamentService tournamentService;
 
     @Override
     public PairResponseDto create(PairCreateDto pairCreateDto) {
@@ -77,7 +79,10 @@ public class PairService implements IPairService {
         pair.setPlayer2(player2);
         pair.setTeamName(pairUpdateDto.getTeamName());
 
-        return pairMapper.toDto(pairRepository.save(pair));
+        PairResponseDto updated = pairMapper.toDto(pairRepository.save(pair));
+        tournamentService.markPairTournamentsChanged(id);
+
+        return updated;
     }
 
     @Override
@@ -8,8 +8,10 @@ import com.eze_dev.torneos.mapper.PlayerMapper;
 import com.eze_dev.torneos.model.Player;
 import com.eze_dev.torneos.repository.PlayerRepository;
 import com.eze_dev.torneos.service.interfaces.IPlayerService;
+import com.eze_dev.torneos.service.interfaces.ITournamentService;
 import jakarta.persistence.EntityExistsException;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -24,6 +26,7 @@ public class PlayerService implements IPlayerService {
 
     private final PlayerRepository playerRepository;
     private final PlayerMapper playerMapper;
+    private final ITournamentService tournamentService;
 
     @Override
     public PlayerResponseDto create(PlayerCreateDto playerCreateDto) {
@@ -50,12 +53,16 @@ public class PlayerService implements IPlayerService {
     }
 
     @Override
+    @Transactional
     public PlayerResponseDto update(UUID id, PlayerUpdateDto playerUpdateDto) {
         return playerRepository.findById(id)
                 .map(existingPlayer -> {
                     playerMapper.updateEntityFromDto(playerUpdateDto, existingPlayer);
 
-                    return playerMapper.toDto(playerRepository.save(existingPlayer));
+                    PlayerResponseDto updated = playerMapper.toDto(playerRepository.save(existingPlayer));
+                    tournamentService.markPlayerTournamentsChanged(id);
+
+                    return updated;
                 })
                 .orElseThrow(() -> new EntityNotFoundException("Player not found with ID: " + id));
     }
@@ -1,200 +1,331 @@
 package com.eze_dev.torneos.service.implementations;
 
+import com.eze_dev.torneos.dto.response.CursorPaginatedResponseDto;
 import com.eze_dev.torneos.dto.response.PaginatedResponseDto;
 import com.eze_dev.torneos.dto.response.PlayerRankingResponseDto;
 import com.eze_dev.torneos.dto.response.PlayerStandingResponseDto;
 import com.eze_dev.torneos.dto.response.PlayerSummaryResponseDto;
 import com.eze_dev.torneos.mapper.PlayerSummaryMapper;
+import com.eze_dev.torneos.model.Match;
+import com.eze_dev.torneos.model.Pair;
 import com.eze_dev.torneos.model.Player;
+import com.eze_dev.torneos.model.PlayerRankingPoints;
+import com.eze_dev.torneos.model.PlayerRankingPointsId;
+import com.eze_dev.torneos.model.PlayerStanding;
 import com.eze_dev.torneos.model.Tournament;
+import com.eze_dev.torneos.model.snapshot.TournamentSnapshot;
+import com.eze_dev.torneos.repository.MatchRepository;
+import com.eze_dev.torneos.repository.PlayerRankingPointsRepository;
 import com.eze_dev.torneos.repository.PlayerRepository;
+import com.eze_dev.torneos.repository.PlayerStandingRepository;
 import com.eze_dev.torneos.repository.TournamentRepository;
+import com.eze_dev.torneos.repository.projection.TournamentSnapshotRow;
 import com.eze_dev.torneos.service.interfaces.IPlayerStandingService;
 import com.eze_dev.torneos.strategy.tournament.PairStanding;
 import com.eze_dev.torneos.strategy.tournament.TournamentStrategy;
 import com.eze_dev.torneos.strategy.tournament.TournamentStrategyFactory;
 import com.eze_dev.torneos.types.CategoryType;
 import com.eze_dev.torneos.types.GenderType;
+import com.eze_dev.torneos.types.MatchStatus;
+import com.eze_dev.torneos.types.TournamentStatus;
+import jakarta.annotation.PreDestroy;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-import java.util.Optional;
-import java.util.UUID;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class PlayerStandingService implements IPlayerStandingService {
 
+    private static final String INVALID_CURSOR_MSG = "Invalid ranking cursor: ";
+
     private final PlayerRepository playerRepository;
+    private final PlayerStandingRepository playerStandingRepository;
+    private final PlayerRankingPointsRepository playerRankingPointsRepository;
+    private final MatchRepository matchRepository;
     private final TournamentRepository tournamentRepository;
     private final TournamentStrategyFactory tournamentStrategyFactory;
     private final PlayerSummaryMapper playerSummaryMapper;
 
+    // Acotado a los núcleos: el cálculo de posiciones es CPU puro y no debe competir con el pool común
+    private final ForkJoinPool rankingPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
     @Override
     public PlayerStandingResponseDto getPlayerStandingById(UUID playerId) {
+        return playerStandingRepository.findWithPlayerByPlayerId(playerId)
+                .map(standing -> toStandingDto(standing.getPlayer(), standing))
+                .orElseGet(() -> {
+                    Player player = playerRepository.findById(playerId)
+                            .orElseThrow(() -> new EntityNotFoundException("Player not found with ID: " + playerId));
+
+                    return toStandingDto(player, null);
+                });
+    }
 
-        Player player = playerRepository.findById(playerId)
-                .orElseThrow(() -> new EntityNotFoundException("Player not found with ID: " + playerId));
+    @Override
+    public List<PlayerStandingResponseDto> getAllPlayersStandings() {
+        // Ordenadas por eficiencia de partidos descendente y, en caso de empate, por partidos ganados
+        List<PlayerStandingResponseDto> standings = new ArrayList<>(playerStandingRepository.findAllOrderedByEfficiency()
+                .stream()
+                .map(standing -> toStandingDto(standing.getPlayer(), standing))
+                .toList());
 
-        List<Tournament> playerTournaments = tournamentRepository.findTournamentsByPlayerId(playerId);
+        // Los jugadores sin partidos completados no tienen fila y quedan al final
+        playerRepository.findPlayersWithoutStanding()
+                .forEach(player -> standings.add(toStandingDto(player, null)));
 
-        int totalMatchesPlayed = 0;
-        int totalMatchesWon = 0;
-        int totalMatchesLost = 0;
-        int totalGamesPlayed = 0;
-        int totalGamesWon = 0;
-        int totalGamesLost = 0;
+        return standings;
+    }
 
-        for (Tournament tournament : playerTournaments) {
-            TournamentStrategy strategy = tournamentStrategyFactory.getStrategy(tournament.getTournamentType());
-            List<PairStanding> standings = strategy.calculateStandings(tournament);
+    @Override
+    @Transactional
+    public void recordMatchResult(Match match) {
+        applyMatchResults(List.of(), List.of(match));
+    }
 
-            Optional<PairStanding> playerPairStanding = standings.stream()
-                    .filter(standing -> isPlayerInPair(standing, playerId))
-                    .findFirst();
+    @Override
+    @Transactional
+    public void revertMatchResult(Match match) {
+        applyMatchResults(List.of(match), List.of());
+    }
+
+    // Suma en memoria los cambios de todos los partidos y aplica un único upsert por jugador afectado
+    @Override
+    @Transactional
+    public void applyMatchResults(Collection<Match> reverted, Collection<Match> recorded) {
+        Map<UUID, PlayerStanding> deltas = new HashMap<>();
 
-            if (playerPairStanding.isPresent()) {
-                PairStanding pairStanding = playerPairStanding.get();
+        reverted.forEach(match -> accumulateMatch(deltas, match, -1));
+        recorded.forEach(match -> accumulateMatch(deltas, match, 1));
 
-                totalMatchesPlayed += pairStanding.getMatchesPlayed();
-                totalMatchesWon += pairStanding.getWins();
-                totalMatchesLost += pairStanding.getLosses();
-                totalGamesPlayed += (pairStanding.getGamesWon() + pairStanding.getGamesLost());
-                totalGamesWon += pairStanding.getGamesWon();
-                totalGamesLost += pairStanding.getGamesLost();
+        for (PlayerStanding delta : deltas.values()) {
+            if (delta.getMatchesPlayed() == 0 && delta.getMatchesWon() == 0 && delta.getMatchesLost() == 0
+                    && delta.getGamesWon() == 0 && delta.getGamesLost() == 0) {
+                continue;
             }
+
+            playerStandingRepository.applyDelta(delta.getPlayer().getId(), delta.getMatchesPlayed(),
+                    delta.getMatchesWon(), delta.getMatchesLost(), delta.getGamesWon(), delta.getGamesLost());
         }
+    }
 
-        double matchesEfficiency = totalMatchesPlayed > 0 ?
-                (double) totalMatchesWon / totalMatchesPlayed * 100 : 0.0;
-        double gamesEfficiency = totalGamesPlayed > 0 ?
-                (double) totalGamesWon / totalGamesPlayed * 100 : 0.0;
+    @Override
+    @Transactional
+    public void rebuildPlayerStandings() {
+        Map<UUID, PlayerStanding> standings = new HashMap<>();
 
-        PlayerSummaryResponseDto playerSummary = playerSummaryMapper.toDto(player);
+        for (Match match : matchRepository.findByStatusWithPlayers(MatchStatus.COMPLETED)) {
+            accumulateMatch(standings, match, 1);
+        }
 
-        return PlayerStandingResponseDto.builder()
-                .playerSummary(playerSummary)
-                .totalMatchesPlayed(totalMatchesPlayed)
-                .totalMatchesWon(totalMatchesWon)
-                .totalMatchesLost(totalMatchesLost)
-                .matchesEfficiency(matchesEfficiency)
-                .totalGamesPlayed(totalGamesPlayed)
-                .totalGamesWon(totalGamesWon)
-                .totalGamesLost(totalGamesLost)
-                .gamesEfficiency(gamesEfficiency)
-                .build();
+        playerStandingRepository.deleteAllInBatch();
+        playerStandingRepository.saveAll(standings.values());
+
+        log.info("Player standings rebuilt for {} players", standings.size());
     }
 
     @Override
-    public List<PlayerStandingResponseDto> getAllPlayersStandings() {
-        List<Player> allPlayers = playerRepository.findAll();
-
-        return allPlayers.stream()
-                .map(player -> getPlayerStandingById(player.getId()))
-                .sorted((s1, s2) -> {
-                    // Ordenar por eficiencia de partidos descendente
-                    int efficiencyCompare = Double.compare(s2.getMatchesEfficiency(), s1.getMatchesEfficiency());
+    @Transactional
+    public void recordTournamentPoints(Tournament tournament) {
+        applyTournamentDelta(tournament, 1);
+        log.info("Ranking points recorded for finished tournament {}", tournament.getId());
+    }
 
-                    if (efficiencyCompare != 0) return efficiencyCompare;
+    @Override
+    @Transactional
+    public void revertTournamentPoints(Tournament tournament) {
+        applyTournamentDelta(tournament, -1);
+    }
 
-                    // En caso de empate, ordenar por partidos ganados
-                    return Integer.compare(s2.getTotalMatchesWon(), s1.getTotalMatchesWon());
-                })
+    // Todos los torneos finalizados salen de una consulta de proyección como snapshots inmutables, sus posiciones
+    // se calculan en paralelo y la suma por jugador se hace después en este hilo
+    @Override
+    @Transactional
+    public void rebuildPlayerRankings() {
+        List<TournamentSnapshot> snapshots = tournamentRepository.findSnapshotRowsByStatus(TournamentStatus.FINISHED)
+                .stream()
+                .collect(Collectors.groupingBy(TournamentSnapshotRow::tournamentId, LinkedHashMap::new, Collectors.toList()))
+                .values().stream()
+                .map(TournamentSnapshot::fromRows)
                 .toList();
+
+        List<List<PairStanding>> standingsByTournament = rankingPool.submit(() -> snapshots.parallelStream()
+                        .map(this::calculateStandings)
+                        .toList())
+                .join();
+
+        Map<PlayerRankingPointsId, PlayerRankingPoints> rankings = new HashMap<>();
+
+        for (int i = 0; i < snapshots.size(); i++) {
+            TournamentSnapshot tournament = snapshots.get(i);
+
+            for (PairStanding standing : standingsByTournament.get(i)) {
+                for (UUID playerId : List.of(standing.getPair().player1Id(), standing.getPair().player2Id())) {
+                    PlayerRankingPointsId id = new PlayerRankingPointsId(playerId,
+                            tournament.categoryType(), tournament.genderType());
+
+                    PlayerRankingPoints ranking = rankings.computeIfAbsent(id, key -> PlayerRankingPoints.builder()
+                            .id(key)
+                            .player(playerRepository.getReferenceById(playerId))
+                            .build());
+
+                    ranking.setTotalPoints(ranking.getTotalPoints() + standing.getPoints());
+                    ranking.setTournamentsPlayed(ranking.getTournamentsPlayed() + 1);
+                }
+            }
+        }
+
+        // Las filas recién construidas son nuevas (ver PlayerRankingPoints.isNew), así que saveAll las persiste sin merge
+        playerRankingPointsRepository.deleteAllInBatch();
+        playerRankingPointsRepository.saveAll(rankings.values());
+
+        log.info("Player rankings rebuilt with {} entries from {} tournaments", rankings.size(), snapshots.size());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rankingPool.shutdown();
     }
 
     @Override
     public List<PlayerRankingResponseDto> getPlayerRankings(CategoryType category, GenderType gender) {
-        List<Player> allPlayers = playerRepository.findAll();
-
-        return allPlayers.stream()
-                .filter(player -> hasPlayedInCategoryAndGender(player.getId(), category, gender))
-                .map(player -> getPlayerPointsRanking(player.getId(), category, gender))
-                .sorted((p1, p2) -> Integer.compare(p2.getTotalPoints(), p1.getTotalPoints()))
-                .toList();
+        return playerRankingPointsRepository.findRankings(category, gender, Limit.unlimited());
     }
 
     @Override
     public PaginatedResponseDto<PlayerRankingResponseDto> getPlayerRankingsPaginated(CategoryType category, GenderType gender, Pageable pageable) {
-        Page<Player> rankingsPage = playerRepository.findPlayersWhoPlayedInCategoryAndGender(category, gender, pageable);
-
-        List<PlayerRankingResponseDto> rankings = rankingsPage.getContent()
-                .stream()
-                .map(ranking -> getPlayerPointsRanking(ranking.getId(), category, gender))
-                .sorted((p1, p2) -> Integer.compare(p2.getTotalPoints(), p1.getTotalPoints()))
-                .toList();
+        // El orden por puntos lo define la consulta, así que se ignora cualquier sort del cliente
+        Pageable unsorted = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+        Page<PlayerRankingResponseDto> rankingsPage = playerRankingPointsRepository.findRankings(category, gender, unsorted);
 
-        return new PaginatedResponseDto<>(rankings, rankingsPage);
+        return new PaginatedResponseDto<>(rankingsPage.getContent(), rankingsPage);
     }
 
-    private boolean hasPlayedInCategoryAndGender(UUID playerId, CategoryType category, GenderType gender) {
-        List<Tournament> playerTournaments = tournamentRepository.findTournamentsByPlayerId(playerId);
+    @Override
+    public CursorPaginatedResponseDto<PlayerRankingResponseDto> getPlayerRankingsAfter(CategoryType category, GenderType gender, String cursor, int size) {
+        Limit limit = Limit.of(size + 1);
+
+        boolean firstPage = cursor == null || cursor.isBlank();
+        RankingCursor after = firstPage ? null : decodeCursor(cursor);
+
+        List<PlayerRankingResponseDto> rankings;
+
+        // Con categoría y género hay una fila por jugador y el cursor busca directo sobre el índice;
+        // sin alguno de los dos los puntos se suman por jugador antes de poder comparar
+        if (category != null && gender != null) {
+            rankings = firstPage
+                    ? playerRankingPointsRepository.findCategoryRankings(category, gender, limit)
+                    : playerRankingPointsRepository.findCategoryRankingsAfter(category, gender, after.points(), after.playerId(), limit);
+        } else {
+            rankings = firstPage
+                    ? playerRankingPointsRepository.findRankings(category, gender, limit)
+                    : playerRankingPointsRepository.findRankingsAfter(category, gender, after.points(), after.playerId(), limit);
+        }
 
-        return playerTournaments.stream()
-                .anyMatch(tournament ->
-                        (category == null || tournament.getCategoryType().equals(category)) &&
-                                (gender == null || tournament.getGenderType().equals(gender))
-                );
-    }
+        boolean hasNext = rankings.size() > size;
+        List<PlayerRankingResponseDto> items = hasNext ? rankings.subList(0, size) : rankings;
+        String nextCursor = hasNext ? encodeCursor(items.get(items.size() - 1)) : null;
 
+        return new CursorPaginatedResponseDto<>(items, nextCursor, hasNext);
+    }
 
-    private PlayerRankingResponseDto getPlayerPointsRanking(UUID playerId, CategoryType category, GenderType gender) {
-        Player player = playerRepository.findById(playerId)
-                .orElseThrow(() -> new EntityNotFoundException("Player not found with ID: " + playerId));
+    private List<PairStanding> calculateStandings(TournamentSnapshot tournament) {
+        TournamentStrategy strategy = tournamentStrategyFactory.getStrategy(tournament.tournamentType());
+        return strategy.calculateStandings(tournament);
+    }
 
-        List<Tournament> playerTournaments = tournamentRepository.findTournamentsByPlayerId(playerId);
+    private void applyTournamentDelta(Tournament tournament, int sign) {
+        for (PairStanding standing : calculateStandings(TournamentSnapshot.of(tournament))) {
+            for (UUID playerId : List.of(standing.getPair().player1Id(), standing.getPair().player2Id())) {
+                playerRankingPointsRepository.applyDelta(playerId, tournament.getCategoryType().name(),
+                        tournament.getGenderType().name(), sign * standing.getPoints(), sign);
+            }
+        }
+    }
 
-        List<Tournament> filteredTournaments = playerTournaments.stream()
-                .filter(tournament ->
-                        (category == null || tournament.getCategoryType().equals(category)) &&
-                                (gender == null || tournament.getGenderType().equals(gender))
-                )
-                .toList();
+    private void accumulateMatch(Map<UUID, PlayerStanding> standings, Match match, int sign) {
+        int score1 = getScore(match.getPair1Score());
+        int score2 = getScore(match.getPair2Score());
 
-        int totalPoints = 0;
+        accumulate(standings, match.getPair1(), score1, score2, sign);
+        accumulate(standings, match.getPair2(), score2, score1, sign);
+    }
 
-        for (Tournament tournament : filteredTournaments) {
-            TournamentStrategy strategy = tournamentStrategyFactory.getStrategy(tournament.getTournamentType());
-            List<PairStanding> standings = strategy.calculateStandings(tournament);
+    private void accumulate(Map<UUID, PlayerStanding> standings, Pair pair, int gamesWon, int gamesLost, int sign) {
+        for (Player player : List.of(pair.getPlayer1(), pair.getPlayer2())) {
+            PlayerStanding standing = standings.computeIfAbsent(player.getId(),
+                    id -> PlayerStanding.builder().player(player).build());
 
-            Optional<PairStanding> playerPairStanding = standings.stream()
-                    .filter(standing -> isPlayerInPair(standing, playerId))
-                    .findFirst();
+            standing.setMatchesPlayed(standing.getMatchesPlayed() + sign);
+            standing.setGamesWon(standing.getGamesWon() + sign * gamesWon);
+            standing.setGamesLost(standing.getGamesLost() + sign * gamesLost);
 
-            if (playerPairStanding.isPresent()) {
-                totalPoints += playerPairStanding.get().getPoints();
+            if (gamesWon > gamesLost) {
+                standing.setMatchesWon(standing.getMatchesWon() + sign);
+            } else if (gamesLost > gamesWon) {
+                standing.setMatchesLost(standing.getMatchesLost() + sign);
             }
         }
+    }
+
+    private PlayerStandingResponseDto toStandingDto(Player player, PlayerStanding standing) {
+        int matchesPlayed = standing != null ? standing.getMatchesPlayed() : 0;
+        int matchesWon = standing != null ? standing.getMatchesWon() : 0;
+        int matchesLost = standing != null ? standing.getMatchesLost() : 0;
+        int gamesWon = standing != null ? standing.getGamesWon() : 0;
+        int gamesLost = standing != null ? standing.getGamesLost() : 0;
+        int gamesPlayed = gamesWon + gamesLost;
 
-        int tournamentsPlayed = getTournamentsPlayedCount(playerId, category, gender);
+        double matchesEfficiency = matchesPlayed > 0 ?
+                (double) matchesWon / matchesPlayed * 100 : 0.0;
+        double gamesEfficiency = gamesPlayed > 0 ?
+                (double) gamesWon / gamesPlayed * 100 : 0.0;
 
-        return PlayerRankingResponseDto.builder()
-                .id(playerId)
-                .name(player.getName())
-                .lastName(player.getLastName())
-                .genderType(player.getGenderType())
-                .totalPoints(totalPoints)
-                .tournamentsPlayed(tournamentsPlayed)
+        return PlayerStandingResponseDto.builder()
+                .playerSummary(playerSummaryMapper.toDto(player))
+                .totalMatchesPlayed(matchesPlayed)
+                .totalMatchesWon(matchesWon)
+                .totalMatchesLost(matchesLost)
+                .matchesEfficiency(matchesEfficiency)
+                .totalGamesPlayed(gamesPlayed)
+                .totalGamesWon(gamesWon)
+                .totalGamesLost(gamesLost)
+                .gamesEfficiency(gamesEfficiency)
                 .build();
     }
 
-    private int getTournamentsPlayedCount(UUID playerId, CategoryType category, GenderType gender) {
-        List<Tournament> playerTournaments = tournamentRepository.findTournamentsByPlayerId(playerId);
+    private int getScore(Integer score) {
+        return score != null ? score : 0;
+    }
+
+    private String encodeCursor(PlayerRankingResponseDto last) {
+        String raw = last.getTotalPoints() + ":" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private RankingCursor decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":", 2);
 
-        return (int) playerTournaments.stream()
-                .filter(tournament ->
-                        (category == null || tournament.getCategoryType().equals(category)) &&
-                                (gender == null || tournament.getGenderType().equals(gender))
-                )
-                .count();
+            return new RankingCursor(Long.parseLong(parts[0]), UUID.fromString(parts[1]));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException(INVALID_CURSOR_MSG + cursor);
+        }
     }
 
-    private boolean isPlayerInPair(PairStanding standing, UUID playerId) {
-        return standing.getPair().getPlayer1().getId().equals(playerId) ||
-                standing.getPair().getPlayer2().getId().equals(playerId);
+    private record RankingCursor(long points, UUID playerId) {
     }
-}
\ No newline at end of file
+}
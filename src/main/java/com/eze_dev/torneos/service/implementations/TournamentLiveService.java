@@ -0,0 +1,219 @@
+package com.eze_dev.torneos.service.implementations;
+
+import com.eze_dev.torneos.dto.response.MatchResponseDto;
+import com.eze_dev.torneos.dto.response.PairStandingResponseDto;
+import com.eze_dev.torneos.dto.response.TournamentLiveEventResponseDto;
+import com.eze_dev.torneos.event.MatchResultsRecordedEvent;
+import com.eze_dev.torneos.service.interfaces.ITournamentLiveService;
+import com.eze_dev.torneos.service.interfaces.ITournamentService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Slf4j
+@Service
+public class TournamentLiveService implements ITournamentLiveService {
+
+    private static final String SNAPSHOT_EVENT = "snapshot";
+    private static final String RESULT_EVENT = "result";
+
+    private final ITournamentService tournamentService;
+    private final ObjectMapper objectMapper;
+    private final long emitterTimeoutMs;
+
+    // Un canal por torneo con espectadores; desaparece cuando se va el último
+    private final Map<UUID, Channel> channels = new ConcurrentHashMap<>();
+    private final ExecutorService broadcastExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicLong subscriberSequence = new AtomicLong();
+
+    public TournamentLiveService(ITournamentService tournamentService,
+                                 ObjectMapper objectMapper,
+                                 @Value("${torneos.live.emitter-timeout-ms}") long emitterTimeoutMs) {
+        this.tournamentService = tournamentService;
+        this.objectMapper = objectMapper;
+        this.emitterTimeoutMs = emitterTimeoutMs;
+    }
+
+    @Override
+    public SseEmitter subscribe(UUID tournamentId) {
+        // Valida que el torneo exista antes de abrir el stream
+        tournamentService.getVersion(tournamentId);
+
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        LiveSubscriber subscriber = new LiveSubscriber(emitter, "live-" + subscriberSequence.incrementAndGet());
+        // compute / computeIfPresent: alta y baja atómicas por torneo, así nadie se suma a un canal que se está quitando
+        Channel channel = channels.compute(tournamentId, (id, existing) -> {
+            Channel target = existing != null ? existing : new Channel(id);
+            target.add(subscriber);
+            return target;
+        });
+
+        emitter.onCompletion(() -> remove(tournamentId, subscriber));
+        emitter.onTimeout(() -> remove(tournamentId, subscriber));
+        emitter.onError(e -> remove(tournamentId, subscriber));
+
+        subscriber.start();
+        broadcastExecutor.execute(() -> channel.sendSnapshot(subscriber));
+
+        return emitter;
+    }
+
+    // Una sola tabla calculada por resultado, sin importar cuántos espectadores haya. Corre en un hilo
+    // virtual para no demorar la respuesta de quien cargó el resultado
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMatchResultsRecorded(MatchResultsRecordedEvent event) {
+        Channel channel = channels.get(event.tournamentId());
+
+        if (channel != null) {
+            broadcastExecutor.execute(() -> channel.broadcastResult(event.matches()));
+        }
+    }
+
+    // Comentario periódico para detectar conexiones muertas y que los proxies no corten el stream
+    @Scheduled(fixedRateString = "${torneos.live.heartbeat-ms}")
+    public void sendHeartbeat() {
+        Set<ResponseBodyEmitter.DataWithMediaType> heartbeat = SseEmitter.event().comment("keep-alive").build();
+        channels.values().forEach(channel -> channel.broadcast(heartbeat));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        broadcastExecutor.shutdownNow();
+        channels.values().forEach(Channel::closeAll);
+    }
+
+    private void remove(UUID tournamentId, LiveSubscriber subscriber) {
+        subscriber.close();
+
+        channels.computeIfPresent(tournamentId, (id, channel) -> {
+            channel.remove(subscriber);
+            return channel.isEmpty() ? null : channel;
+        });
+    }
+
+    private Set<ResponseBodyEmitter.DataWithMediaType> buildEvent(String name, TournamentLiveEventResponseDto payload) {
+        try {
+            // Se serializa una vez y el mismo texto va a todos los espectadores
+            return SseEmitter.event()
+                    .name(name)
+                    .data(objectMapper.writeValueAsString(payload), MediaType.APPLICATION_JSON)
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize live event", e);
+        }
+    }
+
+    private final class Channel {
+
+        private final UUID tournamentId;
+        private final List<LiveSubscriber> subscribers = new CopyOnWriteArrayList<>();
+        // ReentrantLock y no synchronized: los hilos virtuales no quedan fijados a su portador mientras esperan
+        private final ReentrantLock lock = new ReentrantLock();
+        // Base de los deltas: la tabla del último resultado difundido, o la del primer snapshot si todavía no hubo ninguno
+        private Map<UUID, PairStandingResponseDto> lastStandings;
+
+        private Channel(UUID tournamentId) {
+            this.tournamentId = tournamentId;
+        }
+
+        void add(LiveSubscriber subscriber) {
+            subscribers.add(subscriber);
+        }
+
+        void remove(LiveSubscriber subscriber) {
+            subscribers.remove(subscriber);
+        }
+
+        boolean isEmpty() {
+            return subscribers.isEmpty();
+        }
+
+        // Un snapshot posterior no mueve la base: puede incluir un resultado ya confirmado cuyo broadcastResult
+        // todavía no corrió, y ese delta tiene que seguir llegando completo a los espectadores anteriores
+        void sendSnapshot(LiveSubscriber subscriber) {
+            lock.lock();
+            try {
+                List<PairStandingResponseDto> standings = tournamentService.getStandings(tournamentId);
+
+                if (lastStandings == null) {
+                    lastStandings = indexByPair(standings);
+                }
+
+                subscriber.offer(buildEvent(SNAPSHOT_EVENT, TournamentLiveEventResponseDto.builder()
+                        .tournamentId(tournamentId)
+                        .matches(List.of())
+                        .standings(standings)
+                        .order(order(standings))
+                        .build()));
+            } catch (RuntimeException e) {
+                log.warn("Could not send live snapshot for tournament {}: {}", tournamentId, e.getMessage());
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        // Los resultados de un mismo torneo se procesan de a uno para que cada delta parta del anterior
+        void broadcastResult(List<MatchResponseDto> matches) {
+            lock.lock();
+            try {
+                List<PairStandingResponseDto> standings = tournamentService.getStandings(tournamentId);
+                Map<UUID, PairStandingResponseDto> current = indexByPair(standings);
+
+                List<PairStandingResponseDto> changed = standings.stream()
+                        .filter(row -> lastStandings == null || !row.equals(lastStandings.get(row.getPairId())))
+                        .toList();
+                lastStandings = current;
+
+                broadcast(buildEvent(RESULT_EVENT, TournamentLiveEventResponseDto.builder()
+                        .tournamentId(tournamentId)
+                        .matches(matches)
+                        .standings(changed)
+                        .order(order(standings))
+                        .build()));
+            } catch (RuntimeException e) {
+                log.warn("Could not broadcast live result for tournament {}: {}", tournamentId, e.getMessage());
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void broadcast(Set<ResponseBodyEmitter.DataWithMediaType> event) {
+            subscribers.forEach(subscriber -> subscriber.offer(event));
+        }
+
+        void closeAll() {
+            subscribers.forEach(subscriber -> {
+                subscriber.close();
+                subscriber.emitter().complete();
+            });
+        }
+
+        private Map<UUID, PairStandingResponseDto> indexByPair(List<PairStandingResponseDto> standings) {
+            Map<UUID, PairStandingResponseDto> byPair = new HashMap<>(standings.size() * 2);
+            standings.forEach(row -> byPair.put(row.getPairId(), row));
+            return byPair;
+        }
+
+        private List<UUID> order(List<PairStandingResponseDto> standings) {
+            return standings.stream()
+                    .map(PairStandingResponseDto::getPairId)
+                    .toList();
+        }
+    }
+}
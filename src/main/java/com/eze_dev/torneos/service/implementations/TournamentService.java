@@ -1,36 +1,54 @@
 package com.eze_dev.torneos.service.implementations;
 
+import com.eze_dev.torneos.config.CacheConfig;
 import com.eze_dev.torneos.dto.create.TournamentCreateDto;
 import com.eze_dev.torneos.dto.response.*;
+import com.eze_dev.torneos.dto.update.MatchScheduleUpdateDto;
 import com.eze_dev.torneos.dto.update.TournamentStatusUpdateDto;
 import com.eze_dev.torneos.dto.update.TournamentUpdateDto;
+import com.eze_dev.torneos.event.TournamentChangedEvent;
 import com.eze_dev.torneos.mapper.MatchMapper;
 import com.eze_dev.torneos.mapper.PairMapper;
 import com.eze_dev.torneos.mapper.PairStandingMapper;
 import com.eze_dev.torneos.mapper.TournamentMapper;
 import com.eze_dev.torneos.model.Match;
-import com.eze_dev.torneos.model.Pair;
 import com.eze_dev.torneos.model.Tournament;
+import com.eze_dev.torneos.model.snapshot.TournamentSnapshot;
+import com.eze_dev.torneos.repository.MatchRepository;
 import com.eze_dev.torneos.repository.PairRepository;
 import com.eze_dev.torneos.repository.TournamentRepository;
+import com.eze_dev.torneos.repository.projection.TournamentProgressProjection;
+import com.eze_dev.torneos.repository.projection.TournamentSnapshotRow;
+import com.eze_dev.torneos.scheduling.MatchScheduler;
+import com.eze_dev.torneos.scheduling.ScheduleOptions;
+import com.eze_dev.torneos.service.interfaces.IOutboxService;
+import com.eze_dev.torneos.service.interfaces.IPlayerStandingService;
 import com.eze_dev.torneos.service.interfaces.ITournamentService;
 import com.eze_dev.torneos.strategy.tournament.PairStanding;
 import com.eze_dev.torneos.strategy.tournament.TournamentStrategy;
 import com.eze_dev.torneos.strategy.tournament.TournamentStrategyFactory;
 import com.eze_dev.torneos.types.MatchStatus;
+import com.eze_dev.torneos.types.OutboxEventType;
 import com.eze_dev.torneos.types.TournamentStatus;
 import jakarta.persistence.EntityExistsException;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.LockModeType;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.UUID;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class TournamentService implements ITournamentService {
@@ -44,14 +62,21 @@ public class TournamentService implements ITournamentService {
     private static final String TOURNAMENT_START_VALIDATION_MSG = "Solo se puede iniciar un torneo que esté en estado CREATED.";
     private static final String FINISHED_TOURNAMENT_UPDATE_MSG = "Cannot change status of a finished tournament.";
     private static final String INVALID_STATUS_TRANSITION_MSG = "Invalid status transition from %s to %s";
+    private static final String RESCHEDULE_NOT_IN_PROGRESS_MSG = "Only matches of a tournament in progress can be rescheduled.";
 
     private final TournamentRepository tournamentRepository;
     private final PairRepository pairRepository;
+    private final MatchRepository matchRepository;
     private final TournamentMapper tournamentMapper;
     private final PairMapper pairMapper;
     private final MatchMapper matchMapper;
     private final PairStandingMapper pairStandingMapper;
     private final TournamentStrategyFactory tournamentStrategyFactory;
+    private final IPlayerStandingService playerStandingService;
+    private final IOutboxService outboxService;
+    private final MatchScheduler matchScheduler;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
 
     @Override
     public TournamentResponseDto create(TournamentCreateDto tournamentCreateDto) {
@@ -85,50 +110,66 @@ public class TournamentService implements ITournamentService {
         return tournamentRepository.findById(id)
                 .map(existingTournament -> {
                     tournamentMapper.updateEntityFromDto(tournamentUpdateDto, existingTournament);
-                    return tournamentMapper.toDto(tournamentRepository.save(existingTournament));
+                    Tournament saved = tournamentRepository.save(existingTournament);
+                    publishChanged(id);
+                    return tournamentMapper.toDto(saved);
                 })
                 .orElseThrow(() -> new EntityNotFoundException(TOURNAMENT_NOT_FOUND_MSG + id));
     }
 
     @Override
+    @Transactional
     public void delete(UUID id) {
-        if (!tournamentRepository.existsById(id)) {
-            throw new EntityNotFoundException(TOURNAMENT_NOT_FOUND_MSG + id);
+        Tournament tournament = getTournamentOrThrow(id);
+
+        // Un torneo finalizado ya otorgó sus puntos de ranking: se quitan antes de borrar sus partidos
+        if (tournament.getStatus() == TournamentStatus.FINISHED) {
+            getTournamentWithPairsAndMatchesOrThrow(id);
+            playerStandingService.revertTournamentPoints(tournament);
         }
-        tournamentRepository.deleteById(id);
+
+        // Los partidos completados ya sumaron a las estadísticas de los jugadores: se descuentan antes de borrarlos
+        playerStandingService.applyMatchResults(
+                matchRepository.findByTournamentIdAndStatusWithPlayers(id, MatchStatus.COMPLETED), List.of());
+        tournamentRepository.delete(tournament);
+        publishChanged(id);
     }
 
     @Override
     @Transactional
     public void addPairToTournament(UUID tournamentId, UUID pairId) {
         Tournament tournament = getTournamentOrThrow(tournamentId);
-        Pair pair = getPairOrThrow(pairId);
+        checkPairExists(pairId);
 
-        if (tournament.getPairs().contains(pair)) {
+        if (tournamentRepository.existsByIdAndPairs_Id(tournamentId, pairId)) {
             throw new IllegalArgumentException(PAIR_ALREADY_ADDED_MSG);
         }
 
-        tournament.getPairs().add(pair);
-        tournamentRepository.save(tournament);
+        tournamentRepository.addPair(tournamentId, pairId);
+        // La fila del torneo no cambia: la versión (y con ella el ETag) se sube a mano
+        entityManager.lock(tournament, LockModeType.OPTIMISTIC_FORCE_INCREMENT);
+        publishChanged(tournamentId);
     }
 
     @Override
     @Transactional
     public void removePairFromTournament(UUID tournamentId, UUID pairId) {
         Tournament tournament = getTournamentOrThrow(tournamentId);
-        Pair pair = getPairOrThrow(pairId);
+        checkPairExists(pairId);
 
-        if (!tournament.getPairs().contains(pair)) {
+        if (!tournamentRepository.existsByIdAndPairs_Id(tournamentId, pairId)) {
             throw new IllegalArgumentException(PAIR_NOT_IN_TOURNAMENT_MSG);
         }
 
-        tournament.getPairs().remove(pair);
-        tournamentRepository.save(tournament);
+        tournamentRepository.removePair(tournamentId, pairId);
+        entityManager.lock(tournament, LockModeType.OPTIMISTIC_FORCE_INCREMENT);
+        publishChanged(tournamentId);
     }
 
     @Override
     public List<PairResponseDto> getPairsInTournament(UUID tournamentId) {
-        Tournament tournament = getTournamentOrThrow(tournamentId);
+        Tournament tournament = tournamentRepository.findWithPairsById(tournamentId)
+                .orElseThrow(() -> new EntityNotFoundException(TOURNAMENT_NOT_FOUND_MSG + tournamentId));
         return pairMapper.toDtoList(tournament.getPairs());
     }
 
@@ -147,11 +188,12 @@ public class TournamentService implements ITournamentService {
         tournament.setStatus(TournamentStatus.IN_PROGRESS);
 
         if (tournament.getMatches().isEmpty()) {
-            List<Match> matches = strategy.generateMatches(tournament);
-            tournament.getMatches().addAll(matches);
+            tournament.getMatches().addAll(generateMatches(strategy, tournament));
         }
 
         Tournament updated = tournamentRepository.save(tournament);
+        outboxService.record(tournamentId, OutboxEventType.TOURNAMENT_STARTED);
+        publishChanged(tournamentId);
         return tournamentMapper.toDto(updated);
     }
 
@@ -168,8 +210,7 @@ public class TournamentService implements ITournamentService {
             strategy.validateBeforeStart(tournament);
 
             if (tournament.getMatches().isEmpty()) {
-                List<Match> matches = strategy.generateMatches(tournament);
-                tournament.getMatches().addAll(matches);
+                tournament.getMatches().addAll(generateMatches(strategy, tournament));
             }
         }
 
@@ -180,16 +221,57 @@ public class TournamentService implements ITournamentService {
             tournament.setEndDate(LocalDateTime.now());
         }
 
+        if (newStatus == TournamentStatus.FINISHED) {
+            playerStandingService.recordTournamentPoints(tournament);
+        }
+
         tournamentRepository.save(tournament);
+        outboxService.record(id, newStatus == TournamentStatus.FINISHED
+                ? OutboxEventType.TOURNAMENT_FINISHED
+                : OutboxEventType.TOURNAMENT_STARTED);
+        publishChanged(id);
         return tournamentMapper.toDto(tournament);
     }
 
     @Override
     public List<MatchResponseDto> getMatchesInTournament(UUID tournamentId) {
-        Tournament tournament = getTournamentOrThrow(tournamentId);
+        Tournament tournament = tournamentRepository.findWithMatchesById(tournamentId)
+                .orElseThrow(() -> new EntityNotFoundException(TOURNAMENT_NOT_FOUND_MSG + tournamentId));
         return matchMapper.toDtoList(tournament.getMatches());
     }
 
+    @Override
+    @Transactional
+    public List<MatchResponseDto> rescheduleMatches(UUID tournamentId, MatchScheduleUpdateDto matchScheduleUpdateDto) {
+        Tournament tournament = tournamentRepository.findWithMatchesById(tournamentId)
+                .orElseThrow(() -> new EntityNotFoundException(TOURNAMENT_NOT_FOUND_MSG + tournamentId));
+
+        if (tournament.getStatus() != TournamentStatus.IN_PROGRESS) {
+            throw new IllegalStateException(RESCHEDULE_NOT_IN_PROGRESS_MSG);
+        }
+
+        ScheduleOptions options = new ScheduleOptions(
+                matchScheduleUpdateDto.getStartTime() != null
+                        ? matchScheduleUpdateDto.getStartTime()
+                        : LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES),
+                matchScheduleUpdateDto.getCourts(),
+                matchScheduleUpdateDto.getSlotMinutes(),
+                matchScheduleUpdateDto.getMinRestMinutes() != null ? matchScheduleUpdateDto.getMinRestMinutes() : 0);
+
+        // Los partidos ya jugados quedan como están; sólo se replanifican los pendientes
+        List<Match> pending = tournament.getMatches().stream()
+                .filter(match -> match.getStatus() == MatchStatus.PENDING)
+                .toList();
+
+        matchScheduler.schedule(pending, options);
+        matchScheduler.validate(pending, options.slotMinutes());
+        matchRepository.saveAll(pending);
+        entityManager.lock(tournament, LockModeType.OPTIMISTIC_FORCE_INCREMENT);
+
+        log.info("Rescheduled {} pending matches of tournament {} on {} courts", pending.size(), tournamentId, options.courts());
+        return matchMapper.toDtoList(pending);
+    }
+
     @Override
     @Transactional
     public TournamentResponseDto tryFinalizeTournamentIfCompleted(UUID tournamentId) {
@@ -199,26 +281,37 @@ public class TournamentService implements ITournamentService {
             return tournamentMapper.toDto(tournament);
         }
 
-        boolean allMatchesCompleted = tournament.getMatches().stream()
-                .allMatch(match -> match.getStatus() == MatchStatus.COMPLETED);
-
-        if (!allMatchesCompleted) {
+        // Consulta indexada en vez de recorrer todos los partidos del torneo
+        if (matchRepository.existsByTournamentIdAndStatus(tournamentId, MatchStatus.PENDING)) {
             return tournamentMapper.toDto(tournament);
         }
 
+        // Sólo al finalizar hacen falta parejas y partidos para calcular los puntos
+        getTournamentWithPairsAndMatchesOrThrow(tournamentId);
+
         tournament.setStatus(TournamentStatus.FINISHED);
 
         if (tournament.getEndDate() == null) {
             tournament.setEndDate(LocalDateTime.now());
         }
 
-        return tournamentMapper.toDto(tournamentRepository.save(tournament));
+        playerStandingService.recordTournamentPoints(tournament);
+
+        Tournament finished = tournamentRepository.save(tournament);
+        outboxService.record(tournamentId, OutboxEventType.TOURNAMENT_FINISHED);
+        publishChanged(tournamentId);
+
+        log.info("Tournament {} finalized automatically after its last match result", tournamentId);
+        return tournamentMapper.toDto(finished);
     }
 
+    // En caché hasta que un TournamentChangedEvent la invalide (ver TournamentCacheEvictionListener),
+    // así que el snapshot se arma una vez por versión del torneo
     @Override
+    @Cacheable(cacheNames = CacheConfig.STANDINGS_CACHE, key = "#tournamentId")
     public List<PairStandingResponseDto> getStandings(UUID tournamentId) {
-        Tournament tournament = getTournamentOrThrow(tournamentId);
-        TournamentStrategy strategy = tournamentStrategyFactory.getStrategy(tournament.getTournamentType());
+        TournamentSnapshot tournament = getSnapshotOrThrow(tournamentId);
+        TournamentStrategy strategy = tournamentStrategyFactory.getStrategy(tournament.tournamentType());
 
         List<PairStanding> standings = strategy.calculateStandings(tournament);
 
@@ -228,30 +321,29 @@ public class TournamentService implements ITournamentService {
     }
 
     @Override
+    @Cacheable(cacheNames = CacheConfig.PROGRESS_CACHE, key = "#tournamentId")
     public TournamentProgressResponseDto getProgress(UUID tournamentId) {
-        Tournament tournament = getTournamentOrThrow(tournamentId);
+        TournamentProgressProjection progress = tournamentRepository.findProgressById(tournamentId)
+                .orElseThrow(() -> new EntityNotFoundException(TOURNAMENT_NOT_FOUND_MSG + tournamentId));
 
-        int total = tournament.getMatches().size();
-        long completed = tournament.getMatches().stream()
-                .filter(match -> match.getStatus() == MatchStatus.COMPLETED)
-                .count();
+        int total = (int) progress.totalMatches();
+        int completed = (int) progress.completedMatches();
 
         double percentage = total == 0 ? 0 : (completed * 100.0) / total;
 
-        return new TournamentProgressResponseDto(total, (int) completed, tournament.getStatus(), percentage);
+        return new TournamentProgressResponseDto(total, completed, progress.status(), percentage);
     }
 
     @Override
-    public List<TournamentSummaryResponseDto> getSummary() {
-        return tournamentRepository.findAll().stream()
-                .map(t -> new TournamentSummaryResponseDto(
-                        t.getId(),
-                        t.getName(),
-                        t.getStatus(),
-                        t.getPairs().size(),
-                        t.getMatches().size()
-                ))
-                .toList();
+    public List<TournamentSummaryResponseDto> getSummary(TournamentStatus status) {
+        return tournamentRepository.findSummaries(status, Pageable.unpaged()).getContent();
+    }
+
+    @Override
+    public PaginatedResponseDto<TournamentSummaryResponseDto> getSummaryPaginated(TournamentStatus status, Pageable pageable) {
+        Page<TournamentSummaryResponseDto> summariesPage = tournamentRepository.findSummaries(status, pageable);
+
+        return new PaginatedResponseDto<>(summariesPage.getContent(), summariesPage);
     }
 
     @Override
@@ -259,6 +351,26 @@ public class TournamentService implements ITournamentService {
         return getTournamentOrThrow(tournamentId).getStatus();
     }
 
+    @Override
+    public long getVersion(UUID tournamentId) {
+        return tournamentRepository.findVersionById(tournamentId)
+                .orElseThrow(() -> new EntityNotFoundException(TOURNAMENT_NOT_FOUND_MSG + tournamentId));
+    }
+
+    // Los nombres de parejas y jugadores van dentro de /pairs, /matches y /standings, pero no en la fila del
+    // torneo: al cambiarlos se sube la versión de cada torneo afectado (y con ella el ETag) y se invalida su caché
+    @Override
+    @Transactional
+    public void markPairTournamentsChanged(UUID pairId) {
+        markChanged(tournamentRepository.findIdsByPairId(pairId));
+    }
+
+    @Override
+    @Transactional
+    public void markPlayerTournamentsChanged(UUID playerId) {
+        markChanged(tournamentRepository.findIdsByPlayerId(playerId));
+    }
+
     @Override
     public PaginatedResponseDto<TournamentResponseDto> getAllPaginated(Pageable pageable) {
         Page<Tournament> tournamentsPage = tournamentRepository.findAll(pageable);
@@ -299,8 +411,56 @@ public class TournamentService implements ITournamentService {
                 .orElseThrow(() -> new EntityNotFoundException(TOURNAMENT_NOT_FOUND_MSG + tournamentId));
     }
 
-    private Pair getPairOrThrow(UUID pairId) {
-        return pairRepository.findById(pairId)
-                .orElseThrow(() -> new EntityNotFoundException(PAIR_NOT_FOUND_MSG + pairId));
+    // Dos consultas sobre el mismo contexto de persistencia: no se pueden traer ambas colecciones en un solo JOIN FETCH
+    private Tournament getTournamentWithPairsAndMatchesOrThrow(UUID tournamentId) {
+        tournamentRepository.findWithPairsById(tournamentId)
+                .orElseThrow(() -> new EntityNotFoundException(TOURNAMENT_NOT_FOUND_MSG + tournamentId));
+
+        return tournamentRepository.findWithMatchesById(tournamentId)
+                .orElseThrow(() -> new EntityNotFoundException(TOURNAMENT_NOT_FOUND_MSG + tournamentId));
+    }
+
+    // Una consulta de proyección, sin entidades: el LEFT JOIN devuelve al menos una fila si el torneo existe
+    private TournamentSnapshot getSnapshotOrThrow(UUID tournamentId) {
+        List<TournamentSnapshotRow> rows = tournamentRepository.findSnapshotRowsById(tournamentId);
+
+        if (rows.isEmpty()) {
+            throw new EntityNotFoundException(TOURNAMENT_NOT_FOUND_MSG + tournamentId);
+        }
+
+        return TournamentSnapshot.fromRows(rows);
+    }
+
+    private void markChanged(List<UUID> tournamentIds) {
+        for (Tournament tournament : tournamentRepository.findAllById(tournamentIds)) {
+            entityManager.lock(tournament, LockModeType.OPTIMISTIC_FORCE_INCREMENT);
+            publishChanged(tournament.getId());
+        }
+    }
+
+    private void publishChanged(UUID tournamentId) {
+        eventPublisher.publishEvent(new TournamentChangedEvent(tournamentId));
+    }
+
+    private void checkPairExists(UUID pairId) {
+        if (!pairRepository.existsById(pairId)) {
+            throw new EntityNotFoundException(PAIR_NOT_FOUND_MSG + pairId);
+        }
+    }
+
+    // El cronograma de cada formato no conoce a los jugadores que integran varias parejas:
+    // si alguno queda en dos canchas a la vez se replanifica con el planificador general
+    private List<Match> generateMatches(TournamentStrategy strategy, Tournament tournament) {
+        List<Match> matches = strategy.generateMatches(tournament);
+        ScheduleOptions options = matchScheduler.defaultOptions(tournament.getStartDate() != null
+                ? tournament.getStartDate()
+                : LocalDateTime.now());
+
+        if (matchScheduler.hasPlayerOverlap(matches, options.slotMinutes())) {
+            log.info("Generated schedule for tournament {} has player overlaps, rescheduling", tournament.getId());
+            matchScheduler.schedule(matches, options);
+            matchScheduler.validate(matches, options.slotMinutes());
+        }
+        return matches;
     }
-}
\ No newline at end of file
+}
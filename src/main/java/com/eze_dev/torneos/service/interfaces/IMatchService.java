@@ -1,11 +1,15 @@
 package com.eze_dev.torneos.service.interfaces;
 
 import com.eze_dev.torneos.dto.response.MatchResponseDto;
+import com.eze_dev.torneos.dto.response.MatchResultOutcomeResponseDto;
 import com.eze_dev.torneos.dto.update.MatchResultUpdateDto;
 
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public interface IMatchService {
 
     MatchResponseDto updateMatchResult(UUID tournamentId, UUID id, MatchResultUpdateDto matchResultUpdateDto);
+    List<MatchResultOutcomeResponseDto> updateMatchResults(UUID tournamentId, Map<UUID, MatchResultUpdateDto> results);
 }
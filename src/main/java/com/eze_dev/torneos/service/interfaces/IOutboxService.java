@@ -0,0 +1,15 @@
+package com.eze_dev.torneos.service.interfaces;
+
+import com.eze_dev.torneos.types.OutboxEventType;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface IOutboxService {
+
+    void record(UUID tournamentId, OutboxEventType type);
+
+    int dispatchPending();
+    int replay(LocalDateTime since, UUID tournamentId);
+    int purgeDispatched(LocalDateTime before);
+}
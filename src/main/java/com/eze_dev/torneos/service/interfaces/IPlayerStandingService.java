@@ -1,12 +1,16 @@
 package com.eze_dev.torneos.service.interfaces;
 
+import com.eze_dev.torneos.dto.response.CursorPaginatedResponseDto;
 import com.eze_dev.torneos.dto.response.PaginatedResponseDto;
 import com.eze_dev.torneos.dto.response.PlayerRankingResponseDto;
 import com.eze_dev.torneos.dto.response.PlayerStandingResponseDto;
+import com.eze_dev.torneos.model.Match;
+import com.eze_dev.torneos.model.Tournament;
 import com.eze_dev.torneos.types.CategoryType;
 import com.eze_dev.torneos.types.GenderType;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -17,4 +21,14 @@ public interface IPlayerStandingService {
     List<PlayerRankingResponseDto> getPlayerRankings(CategoryType category, GenderType gender);
 
     PaginatedResponseDto<PlayerRankingResponseDto> getPlayerRankingsPaginated(CategoryType category, GenderType gender, Pageable pageable);
+    CursorPaginatedResponseDto<PlayerRankingResponseDto> getPlayerRankingsAfter(CategoryType category, GenderType gender, String cursor, int size);
+
+    void recordMatchResult(Match match);
+    void revertMatchResult(Match match);
+    void applyMatchResults(Collection<Match> reverted, Collection<Match> recorded);
+    void rebuildPlayerStandings();
+
+    void recordTournamentPoints(Tournament tournament);
+    void revertTournamentPoints(Tournament tournament);
+    void rebuildPlayerRankings();
 }
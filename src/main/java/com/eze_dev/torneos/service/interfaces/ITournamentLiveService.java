@@ -0,0 +1,10 @@
+package com.eze_dev.torneos.service.interfaces;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.UUID;
+
+public interface ITournamentLiveService {
+
+    SseEmitter subscribe(UUID tournamentId);
+}
@@ -2,6 +2,7 @@ package com.eze_dev.torneos.service.interfaces;
 
 import com.eze_dev.torneos.dto.create.TournamentCreateDto;
 import com.eze_dev.torneos.dto.response.*;
+import com.eze_dev.torneos.dto.update.MatchScheduleUpdateDto;
 import com.eze_dev.torneos.dto.update.TournamentStatusUpdateDto;
 import com.eze_dev.torneos.dto.update.TournamentUpdateDto;
 import com.eze_dev.torneos.types.TournamentStatus;
@@ -26,14 +27,19 @@ public interface ITournamentService {
     TournamentResponseDto updateStatus(UUID id, TournamentStatusUpdateDto tournamentStatusUpdateDto);
 
     List<MatchResponseDto> getMatchesInTournament(UUID tournamentId);
+    List<MatchResponseDto> rescheduleMatches(UUID tournamentId, MatchScheduleUpdateDto matchScheduleUpdateDto);
 
     TournamentResponseDto tryFinalizeTournamentIfCompleted(UUID tournamentId);
     List<PairStandingResponseDto> getStandings(UUID tournamentId);
 
     TournamentProgressResponseDto getProgress(UUID tournamentId);
 
-    List<TournamentSummaryResponseDto> getSummary();
+    List<TournamentSummaryResponseDto> getSummary(TournamentStatus status);
+    PaginatedResponseDto<TournamentSummaryResponseDto> getSummaryPaginated(TournamentStatus status, Pageable pageable);
     TournamentStatus getStatus(UUID tournamentId);
+    long getVersion(UUID tournamentId);
+    void markPairTournamentsChanged(UUID pairId);
+    void markPlayerTournamentsChanged(UUID playerId);
 
     PaginatedResponseDto<TournamentResponseDto> getAllPaginated(Pageable pageable);
 }
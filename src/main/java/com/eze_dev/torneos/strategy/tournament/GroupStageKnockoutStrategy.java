@@ -0,0 +1,239 @@
+package com.eze_dev.torneos.strategy.tournament;
+
+import com.eze_dev.torneos.model.Match;
+import com.eze_dev.torneos.model.Pair;
+import com.eze_dev.torneos.model.Tournament;
+import com.eze_dev.torneos.model.snapshot.MatchSnapshot;
+import com.eze_dev.torneos.model.snapshot.PairSnapshot;
+import com.eze_dev.torneos.model.snapshot.TournamentSnapshot;
+import com.eze_dev.torneos.repository.MatchRepository;
+import com.eze_dev.torneos.scheduling.MatchScheduler;
+import com.eze_dev.torneos.types.MatchStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+// Fase de grupos todos contra todos y playoff por eliminación directa con los mejores de cada grupo.
+// Los partidos de grupo llevan número de grupo; los del playoff, posición en el cuadro.
+@Component
+public class GroupStageKnockoutStrategy implements TournamentStrategy {
+
+    private final RoundRobinStrategy roundRobinStrategy;
+    private final KnockoutStrategy knockoutStrategy;
+    private final MatchRepository matchRepository;
+    private final int groupSize;
+    private final int qualifiersPerGroup;
+    private final int slotMinutes;
+
+    public GroupStageKnockoutStrategy(RoundRobinStrategy roundRobinStrategy,
+                                      KnockoutStrategy knockoutStrategy,
+                                      MatchRepository matchRepository,
+                                      @Value("${torneos.groups.size:4}") int groupSize,
+                                      @Value("${torneos.groups.qualifiers:2}") int qualifiersPerGroup,
+                                      @Value("${torneos.scheduling.slot-minutes:60}") int slotMinutes) {
+        this.roundRobinStrategy = roundRobinStrategy;
+        this.knockoutStrategy = knockoutStrategy;
+        this.matchRepository = matchRepository;
+        this.groupSize = groupSize;
+        this.qualifiersPerGroup = qualifiersPerGroup;
+        this.slotMinutes = slotMinutes;
+    }
+
+    @Override
+    public void validateBeforeStart(Tournament tournament) {
+        int pairCount = tournament.getPairs().size();
+        int groupCount = groupCount(pairCount);
+
+        if (groupCount < 2 || pairCount / groupCount <= qualifiersPerGroup) {
+            throw new IllegalStateException(String.format(
+                    "A group stage tournament needs at least two groups with more than %d pairs each.", qualifiersPerGroup));
+        }
+    }
+
+    // Todos los grupos juegan su ronda N a la vez, repartidos entre las canchas
+    @Override
+    public List<Match> generateMatches(Tournament tournament) {
+        List<List<Pair>> groups = distribute(knockoutStrategy.seed(tournament));
+        List<List<Match>> rounds = new ArrayList<>();
+
+        for (int group = 0; group < groups.size(); group++) {
+            List<List<Match>> groupRounds = roundRobinStrategy.buildRounds(tournament, groups.get(group));
+
+            for (int round = 0; round < groupRounds.size(); round++) {
+                if (rounds.size() <= round) {
+                    rounds.add(new ArrayList<>());
+                }
+
+                for (Match match : groupRounds.get(round)) {
+                    match.setGroupNumber(group + 1);
+                    rounds.get(round).add(match);
+                }
+            }
+        }
+
+        roundRobinStrategy.schedule(rounds, MatchScheduler.baseTime(tournament));
+
+        return rounds.stream()
+                .flatMap(List::stream)
+                .toList();
+    }
+
+    @Override
+    public void validateResult(Match match, Integer pair1Score, Integer pair2Score, Set<UUID> batchMatchIds) {
+        if (match.getGroupNumber() == null) {
+            knockoutStrategy.validateResult(match, pair1Score, pair2Score, batchMatchIds);
+            return;
+        }
+
+        if (matchRepository.existsByTournamentIdAndBracketPositionIsNotNull(match.getTournament().getId())) {
+            throw new IllegalStateException("Group results cannot change once the playoff has started.");
+        }
+    }
+
+    @Override
+    public void onMatchCompleted(Match match) {
+        if (match.getGroupNumber() == null) {
+            knockoutStrategy.onMatchCompleted(match);
+            return;
+        }
+
+        Tournament tournament = match.getTournament();
+
+        // En una carga por lotes el último partido de grupo puede no ser el último en procesarse
+        if (matchRepository.existsByTournamentIdAndBracketPositionIsNotNull(tournament.getId())
+                || matchRepository.existsByTournamentIdAndGroupNumberIsNotNullAndStatus(tournament.getId(), MatchStatus.PENDING)) {
+            return;
+        }
+
+        LocalDateTime playoffStart = tournament.getMatches().stream()
+                .map(Match::getScheduledDate)
+                .max(Comparator.naturalOrder())
+                .orElseGet(() -> MatchScheduler.baseTime(tournament))
+                .plusMinutes(slotMinutes);
+
+        Map<UUID, Pair> pairsById = tournament.getPairs().stream()
+                .collect(Collectors.toMap(Pair::getId, pair -> pair));
+        List<Pair> qualified = qualify(calculateGroupStandings(TournamentSnapshot.of(tournament))).stream()
+                .map(pair -> pairsById.get(pair.id()))
+                .toList();
+        matchRepository.saveAll(knockoutStrategy.buildBracket(tournament, qualified, playoffStart));
+    }
+
+    // Primero las parejas del playoff según la ronda alcanzada, después el resto según su puesto en el grupo
+    @Override
+    public List<PairStanding> calculateStandings(TournamentSnapshot tournament) {
+        // Los partidos del cuadro los registra rankBracket; acá sólo se suman los de grupo
+        StandingsTable table = new StandingsTable(tournament.pairs());
+        for (MatchSnapshot match : tournament.matches()) {
+            if (match.inGroup()) {
+                table.record(match);
+            }
+        }
+
+        int[] groupPlace = new int[tournament.pairs().size()];
+        Arrays.fill(groupPlace, Integer.MAX_VALUE);
+        for (List<PairStanding> group : calculateGroupStandings(tournament).values()) {
+            for (int place = 0; place < group.size(); place++) {
+                groupPlace[group.get(place).getPair().index()] = place;
+            }
+        }
+
+        KnockoutStrategy.BracketRanking ranking = knockoutStrategy.rankBracket(tournament, table);
+        List<PairStanding> standings = table.toSortedList();
+
+        standings.sort(Comparator
+                .comparingInt((PairStanding standing) -> ranking.contains(standing.getPair()) ? ranking.rankOf(standing.getPair()) : 0)
+                .reversed()
+                .thenComparingInt(standing -> groupPlace[standing.getPair().index()]));
+
+        for (PairStanding standing : standings) {
+            int points = 0;
+
+            if (ranking.finished()) {
+                points = ranking.contains(standing.getPair()) ? ranking.placementPoints(standing.getPair()) : 1;
+            }
+            standing.setPoints(points);
+        }
+
+        return standings;
+    }
+
+    // Los grupos son independientes entre sí, así que se calculan en paralelo sobre el pool fork-join común;
+    // el snapshot es inmutable y se puede leer desde cualquier hilo. No se cachean: la tabla completa del torneo
+    // ya queda en caché en TournamentService.getStandings
+    Map<Integer, List<PairStanding>> calculateGroupStandings(TournamentSnapshot tournament) {
+        Map<Integer, List<MatchSnapshot>> matchesByGroup = new TreeMap<>();
+        Map<Integer, Map<UUID, PairSnapshot>> pairsByGroup = new HashMap<>();
+
+        for (MatchSnapshot match : tournament.matches()) {
+            if (!match.inGroup()) {
+                continue;
+            }
+
+            matchesByGroup.computeIfAbsent(match.groupNumber(), group -> new ArrayList<>()).add(match);
+
+            Map<UUID, PairSnapshot> groupPairs = pairsByGroup.computeIfAbsent(match.groupNumber(), group -> new LinkedHashMap<>());
+            PairSnapshot pair1 = tournament.pair(match.pair1());
+            PairSnapshot pair2 = tournament.pair(match.pair2());
+            groupPairs.put(pair1.id(), pair1);
+            groupPairs.put(pair2.id(), pair2);
+        }
+
+        return matchesByGroup.entrySet().parallelStream()
+                .collect(Collectors.toMap(
+                        Map.Entry::getKey,
+                        entry -> groupStandings(pairsByGroup.get(entry.getKey()), entry.getValue()),
+                        (first, second) -> first,
+                        TreeMap::new));
+    }
+
+    private List<PairStanding> groupStandings(Map<UUID, PairSnapshot> pairs, List<MatchSnapshot> matches) {
+        StandingsTable table = new StandingsTable(pairs.values());
+        table.recordAll(matches);
+
+        return table.toSortedList();
+    }
+
+    // Las parejas se cruzan por puesto: primero todos los ganadores de grupo, después los segundos, etc.
+    private List<PairSnapshot> qualify(Map<Integer, List<PairStanding>> groupStandings) {
+        List<PairSnapshot> qualified = new ArrayList<>();
+
+        for (int place = 0; place < qualifiersPerGroup; place++) {
+            List<PairStanding> samePlace = new ArrayList<>();
+
+            for (List<PairStanding> group : groupStandings.values()) {
+                if (place < group.size()) {
+                    samePlace.add(group.get(place));
+                }
+            }
+
+            samePlace.sort(StandingsTable.RANKING_ORDER);
+            samePlace.forEach(standing -> qualified.add(standing.getPair()));
+        }
+        return qualified;
+    }
+
+    // Reparto en serpentina para que cada grupo reciba cabezas de serie parejas
+    private List<List<Pair>> distribute(List<Pair> seeded) {
+        int groupCount = groupCount(seeded.size());
+        List<List<Pair>> groups = new ArrayList<>(groupCount);
+
+        for (int group = 0; group < groupCount; group++) {
+            groups.add(new ArrayList<>());
+        }
+
+        for (int i = 0; i < seeded.size(); i++) {
+            int row = i / groupCount;
+            int column = i % groupCount;
+            groups.get(row % 2 == 0 ? column : groupCount - 1 - column).add(seeded.get(i));
+        }
+        return groups;
+    }
+
+    private int groupCount(int pairCount) {
+        return (pairCount + groupSize - 1) / groupSize;
+    }
+}
@@ -0,0 +1,355 @@
+package com.eze_dev.torneos.strategy.tournament;
+
+import com.eze_dev.torneos.model.Match;
+import com.eze_dev.torneos.model.Pair;
+import com.eze_dev.torneos.model.PlayerRankingPoints;
+import com.eze_dev.torneos.model.Tournament;
+import com.eze_dev.torneos.model.snapshot.MatchSnapshot;
+import com.eze_dev.torneos.model.snapshot.PairSnapshot;
+import com.eze_dev.torneos.model.snapshot.TournamentSnapshot;
+import com.eze_dev.torneos.repository.MatchRepository;
+import com.eze_dev.torneos.repository.PlayerRankingPointsRepository;
+import com.eze_dev.torneos.scheduling.MatchScheduler;
+import com.eze_dev.torneos.types.MatchStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+// Cuadro de eliminación directa: sólo se crea la primera ronda y cada partido siguiente
+// se genera cuando terminan sus dos partidos de origen. El sucesor de (ronda, posición)
+// siempre es (ronda + 1, posición / 2), así que se busca por índice sin recorrer el cuadro.
+@Component
+public class KnockoutStrategy implements TournamentStrategy {
+
+    private static final String DRAW_MSG = "A knockout match cannot end in a draw.";
+    private static final String WINNER_LOCKED_MSG = "The winner cannot change once the next round match has been played.";
+    private static final String WINNER_CHANGE_IN_BATCH_MSG = "The winner cannot change in the same batch as the next round match result.";
+
+    private final MatchRepository matchRepository;
+    private final PlayerRankingPointsRepository playerRankingPointsRepository;
+    private final int courts;
+    private final int slotMinutes;
+
+    public KnockoutStrategy(MatchRepository matchRepository,
+                            PlayerRankingPointsRepository playerRankingPointsRepository,
+                            @Value("${torneos.scheduling.courts:4}") int courts,
+                            @Value("${torneos.scheduling.slot-minutes:60}") int slotMinutes) {
+        this.matchRepository = matchRepository;
+        this.playerRankingPointsRepository = playerRankingPointsRepository;
+        this.courts = courts;
+        this.slotMinutes = slotMinutes;
+    }
+
+    @Override
+    public void validateBeforeStart(Tournament tournament) {
+        if (tournament.getPairs().size() < 2) {
+            throw new IllegalStateException("A knockout tournament must have at least 2 pairs.");
+        }
+    }
+
+    @Override
+    public List<Match> generateMatches(Tournament tournament) {
+        return buildBracket(tournament, seed(tournament), MatchScheduler.baseTime(tournament));
+    }
+
+    // Arma la primera ronda con las parejas ya ordenadas de mejor a peor preclasificada
+    List<Match> buildBracket(Tournament tournament, List<Pair> seeded, LocalDateTime baseTime) {
+        int bracketSize = bracketSize(seeded.size());
+        int[] seedOrder = seedOrder(bracketSize);
+
+        List<Match> firstRound = new ArrayList<>(bracketSize / 2);
+        int playedMatches = 0;
+
+        for (int position = 0; position < bracketSize / 2; position++) {
+            Pair pair1 = seeded.get(seedOrder[position * 2] - 1);
+            int opponentSeed = seedOrder[position * 2 + 1];
+
+            // Los mejores preclasificados pasan la primera ronda con bye
+            if (opponentSeed > seeded.size()) {
+                firstRound.add(Match.builder()
+                        .tournament(tournament)
+                        .pair1(pair1)
+                        .status(MatchStatus.BYE)
+                        .round(1)
+                        .bracketPosition(position)
+                        .scheduledDate(baseTime)
+                        .build());
+                continue;
+            }
+
+            firstRound.add(Match.builder()
+                    .tournament(tournament)
+                    .pair1(pair1)
+                    .pair2(seeded.get(opponentSeed - 1))
+                    .status(MatchStatus.PENDING)
+                    .round(1)
+                    .bracketPosition(position)
+                    .court(playedMatches % courts + 1)
+                    .scheduledDate(baseTime.plusMinutes((long) (playedMatches / courts) * slotMinutes))
+                    .build());
+            playedMatches++;
+        }
+
+        List<Match> matches = new ArrayList<>(firstRound);
+        LocalDateTime secondRoundTime = baseTime.plusMinutes((long) ((playedMatches + courts - 1) / courts) * slotMinutes);
+
+        // Dos byes consecutivos no tienen un resultado que dispare la ronda siguiente: se crea ya
+        for (int position = 0; position + 1 < firstRound.size(); position += 2) {
+            Match upper = firstRound.get(position);
+            Match lower = firstRound.get(position + 1);
+
+            if (upper.getStatus() == MatchStatus.BYE && lower.getStatus() == MatchStatus.BYE) {
+                matches.add(Match.builder()
+                        .tournament(tournament)
+                        .pair1(upper.getPair1())
+                        .pair2(lower.getPair1())
+                        .status(MatchStatus.PENDING)
+                        .round(2)
+                        .bracketPosition(position / 2)
+                        .scheduledDate(secondRoundTime)
+                        .build());
+            }
+        }
+        return matches;
+    }
+
+    // Un cambio de ganador se propaga al partido siguiente del cuadro (ver onMatchCompleted): se rechaza acá,
+    // antes de escribir nada, si ese partido ya se jugó o si su resultado viene en el mismo lote, porque se
+    // cargó pensando en la pareja anterior
+    @Override
+    public void validateResult(Match match, Integer pair1Score, Integer pair2Score, Set<UUID> batchMatchIds) {
+        if (match.getBracketPosition() == null) {
+            return;
+        }
+
+        if (Objects.equals(pair1Score, pair2Score)) {
+            throw new IllegalStateException(DRAW_MSG);
+        }
+
+        if (match.getStatus() != MatchStatus.COMPLETED || pair1Score == null || pair2Score == null) {
+            return;
+        }
+
+        Pair newWinner = pair1Score > pair2Score ? match.getPair1() : match.getPair2();
+        if (getWinner(match).getId().equals(newWinner.getId())) {
+            return;
+        }
+
+        Optional<Match> successor = matchRepository.findByTournamentIdAndRoundAndBracketPosition(
+                match.getTournament().getId(), match.getRound() + 1, match.getBracketPosition() / 2);
+
+        if (successor.isPresent() && successor.get().getStatus() == MatchStatus.COMPLETED) {
+            throw new IllegalStateException(WINNER_LOCKED_MSG);
+        }
+        if (successor.isPresent() && batchMatchIds.contains(successor.get().getId())) {
+            throw new IllegalStateException(WINNER_CHANGE_IN_BATCH_MSG);
+        }
+    }
+
+    @Override
+    public void onMatchCompleted(Match match) {
+        if (match.getBracketPosition() == null) {
+            return;
+        }
+
+        UUID tournamentId = match.getTournament().getId();
+        int round = match.getRound();
+        int position = match.getBracketPosition();
+        Pair winner = getWinner(match);
+
+        int bracketSize = (int) matchRepository.countByTournamentIdAndRoundAndBracketPositionIsNotNull(tournamentId, 1) * 2;
+        if ((bracketSize >> round) <= 1) {
+            return;
+        }
+
+        Optional<Match> successor = matchRepository.findByTournamentIdAndRoundAndBracketPosition(tournamentId, round + 1, position / 2);
+
+        if (successor.isPresent()) {
+            updateSuccessor(successor.get(), winner, position);
+            return;
+        }
+
+        matchRepository.findByTournamentIdAndRoundAndBracketPosition(tournamentId, round, position ^ 1)
+                .filter(sibling -> sibling.getStatus() != MatchStatus.PENDING)
+                .ifPresent(sibling -> matchRepository.save(buildSuccessor(match, sibling)));
+    }
+
+    // Orden por ronda alcanzada (el campeón queda primero) y, dentro de la misma ronda, por partidos ganados.
+    // Las estadísticas salen de la misma pasada por el cuadro que arma el ranking
+    @Override
+    public List<PairStanding> calculateStandings(TournamentSnapshot tournament) {
+        StandingsTable table = new StandingsTable(tournament.pairs());
+        BracketRanking ranking = rankBracket(tournament, table);
+        List<PairStanding> standings = table.toSortedList();
+
+        standings.sort(Comparator.comparingInt((PairStanding standing) -> ranking.rankOf(standing.getPair())).reversed());
+
+        for (PairStanding standing : standings) {
+            standing.setPoints(ranking.finished() ? ranking.placementPoints(standing.getPair()) : 0);
+        }
+
+        return standings;
+    }
+
+    // Sólo mira los partidos del cuadro (los de fase de grupos no tienen posición en el cuadro) y los registra en la tabla
+    BracketRanking rankBracket(TournamentSnapshot tournament, StandingsTable table) {
+        int[] reachedRound = new int[tournament.pairs().size()];
+        boolean[] eliminated = new boolean[tournament.pairs().size()];
+        int firstRoundMatches = 0;
+        int lastCompletedRound = 0;
+
+        for (MatchSnapshot match : tournament.matches()) {
+            if (!match.inBracket()) {
+                continue;
+            }
+
+            table.record(match);
+
+            if (match.round() == 1) {
+                firstRoundMatches++;
+            }
+
+            reachedRound[match.pair1()] = Math.max(reachedRound[match.pair1()], match.round());
+            if (match.hasPair2()) {
+                reachedRound[match.pair2()] = Math.max(reachedRound[match.pair2()], match.round());
+            }
+
+            if (match.completed()) {
+                if (match.pair1Score() == match.pair2Score()) {
+                    throw new IllegalStateException(DRAW_MSG);
+                }
+
+                eliminated[match.pair1Score() > match.pair2Score() ? match.pair2() : match.pair1()] = true;
+                lastCompletedRound = Math.max(lastCompletedRound, match.round());
+            }
+        }
+
+        int lastRound = Integer.numberOfTrailingZeros(Math.max(2, firstRoundMatches * 2));
+        return new BracketRanking(reachedRound, eliminated, lastRound, lastCompletedRound == lastRound);
+    }
+
+    private void updateSuccessor(Match successor, Pair winner, int position) {
+        Pair current = position % 2 == 0 ? successor.getPair1() : successor.getPair2();
+
+        if (current.getId().equals(winner.getId())) {
+            return;
+        }
+
+        if (successor.getStatus() == MatchStatus.COMPLETED) {
+            throw new IllegalStateException(WINNER_LOCKED_MSG);
+        }
+
+        if (position % 2 == 0) {
+            successor.setPair1(winner);
+        } else {
+            successor.setPair2(winner);
+        }
+        matchRepository.save(successor);
+    }
+
+    private Match buildSuccessor(Match match, Match sibling) {
+        Match upper = match.getBracketPosition() % 2 == 0 ? match : sibling;
+        Match lower = upper == match ? sibling : match;
+
+        LocalDateTime feedersEnd = upper.getScheduledDate().isAfter(lower.getScheduledDate())
+                ? upper.getScheduledDate()
+                : lower.getScheduledDate();
+
+        return Match.builder()
+                .tournament(match.getTournament())
+                .pair1(getWinner(upper))
+                .pair2(getWinner(lower))
+                .status(MatchStatus.PENDING)
+                .round(match.getRound() + 1)
+                .bracketPosition(match.getBracketPosition() / 2)
+                .scheduledDate(feedersEnd.plusMinutes(slotMinutes))
+                .build();
+    }
+
+    private Pair getWinner(Match match) {
+        if (match.getStatus() == MatchStatus.BYE) {
+            return match.getPair1();
+        }
+
+        int score1 = match.getPair1Score() != null ? match.getPair1Score() : 0;
+        int score2 = match.getPair2Score() != null ? match.getPair2Score() : 0;
+
+        if (score1 == score2) {
+            throw new IllegalStateException(DRAW_MSG);
+        }
+
+        return score1 > score2 ? match.getPair1() : match.getPair2();
+    }
+
+    // Preclasificación por la suma de puntos de ranking de ambos jugadores en la categoría del torneo
+    List<Pair> seed(Tournament tournament) {
+        List<UUID> playerIds = new ArrayList<>();
+        for (Pair pair : tournament.getPairs()) {
+            playerIds.add(pair.getPlayer1().getId());
+            playerIds.add(pair.getPlayer2().getId());
+        }
+
+        Map<UUID, Integer> pointsByPlayer = new HashMap<>();
+        for (PlayerRankingPoints ranking : playerRankingPointsRepository.findByCategoryAndGenderAndPlayerIds(
+                tournament.getCategoryType(), tournament.getGenderType(), playerIds)) {
+            pointsByPlayer.put(ranking.getId().getPlayerId(), ranking.getTotalPoints());
+        }
+
+        List<Pair> seeded = new ArrayList<>(tournament.getPairs());
+        seeded.sort(Comparator.comparingInt((Pair pair) -> pointsByPlayer.getOrDefault(pair.getPlayer1().getId(), 0)
+                        + pointsByPlayer.getOrDefault(pair.getPlayer2().getId(), 0))
+                .reversed()
+                .thenComparing(Pair::getId));
+
+        return seeded;
+    }
+
+    private static int bracketSize(int pairCount) {
+        return pairCount <= 1 ? 2 : Integer.highestOneBit(pairCount - 1) << 1;
+    }
+
+    // Orden clásico de cabezas de serie (1-8, 4-5, 2-7, 3-6...) para que los mejores se crucen lo más tarde posible
+    private static int[] seedOrder(int bracketSize) {
+        int[] order = {1};
+
+        while (order.length < bracketSize) {
+            int size = order.length * 2;
+            int[] next = new int[size];
+
+            for (int i = 0; i < order.length; i++) {
+                next[i * 2] = order[i];
+                next[i * 2 + 1] = size + 1 - order[i];
+            }
+            order = next;
+        }
+        return order;
+    }
+
+    // Arreglos indexados por el índice de la pareja en el snapshot; ronda 0 = no llegó al cuadro
+    record BracketRanking(int[] reachedRound, boolean[] eliminated, int lastRound, boolean finished) {
+
+        boolean contains(PairSnapshot pair) {
+            return reachedRound[pair.index()] > 0;
+        }
+
+        // Ronda alcanzada * 2, más uno si la pareja sigue en carrera o salió campeona
+        int rankOf(PairSnapshot pair) {
+            return reachedRound[pair.index()] * 2 + (eliminated[pair.index()] ? 0 : 1);
+        }
+
+        int placementPoints(PairSnapshot pair) {
+            int rank = rankOf(pair);
+
+            if (rank == lastRound * 2 + 1) {
+                return 10;
+            } else if (rank == lastRound * 2) {
+                return 6;
+            } else if (rank == (lastRound - 1) * 2) {
+                return 3;
+            }
+            return 1;
+        }
+    }
+}
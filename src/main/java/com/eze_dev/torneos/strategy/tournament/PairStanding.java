@@ -1,6 +1,6 @@
 package com.eze_dev.torneos.strategy.tournament;
 
-import com.eze_dev.torneos.model.Pair;
+import com.eze_dev.torneos.model.snapshot.PairSnapshot;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 
@@ -8,7 +8,7 @@ import lombok.Data;
 @AllArgsConstructor
 public class PairStanding {
 
-    private Pair pair;
+    private PairSnapshot pair;
     private int matchesPlayed;
     private int wins;
     private int losses;
@@ -0,0 +1,41 @@
+package com.eze_dev.torneos.strategy.tournament;
+
+import com.eze_dev.torneos.model.snapshot.MatchSnapshot;
+
+import java.util.Collection;
+import java.util.List;
+
+// Puntos de ranking por posición final, compartidos por los formatos de fase de grupos
+final class PlacementPoints {
+
+    private PlacementPoints() {
+    }
+
+    static boolean allMatchesCompleted(Collection<MatchSnapshot> matches) {
+        if (matches.isEmpty()) {
+            return false;
+        }
+
+        return matches.stream()
+                .allMatch(MatchSnapshot::completed);
+    }
+
+    static void assign(List<PairStanding> standings, boolean tournamentFinished) {
+        for (int i = 0; i < standings.size(); i++) {
+            int points;
+
+            if (tournamentFinished) {
+                points = switch (i) {
+                    case 0 -> 10;
+                    case 1 -> 6;
+                    case 2 -> 3;
+                    default -> 1;
+                };
+            } else {
+                points = 0;
+            }
+
+            standings.get(i).setPoints(points);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.eze_dev.torneos.strategy.tournament;
+
+import com.eze_dev.torneos.model.Match;
+import com.eze_dev.torneos.model.Pair;
+import com.eze_dev.torneos.model.Tournament;
+import com.eze_dev.torneos.model.snapshot.TournamentSnapshot;
+import com.eze_dev.torneos.scheduling.MatchScheduler;
+import com.eze_dev.torneos.types.MatchStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+public class RoundRobinStrategy implements TournamentStrategy {
+
+    private final int courts;
+    private final int slotMinutes;
+
+    public RoundRobinStrategy(@Value("${torneos.scheduling.courts:4}") int courts,
+                              @Value("${torneos.scheduling.slot-minutes:60}") int slotMinutes) {
+        if (courts < 1 || slotMinutes < 1) {
+            throw new IllegalArgumentException("Courts and slot minutes must be positive.");
+        }
+
+        this.courts = courts;
+        this.slotMinutes = slotMinutes;
+    }
+
+    @Override
+    public void validateBeforeStart(Tournament tournament) {
+        if (tournament.getPairs().size() < 3) {
+            throw new IllegalStateException("A round robin tournament must have at least 3 pairs.");
+        }
+    }
+
+    @Override
+    public List<Match> generateMatches(Tournament tournament) {
+        List<List<Match>> rounds = buildRounds(tournament, new ArrayList<>(tournament.getPairs()));
+        schedule(rounds, MatchScheduler.baseTime(tournament));
+
+        return rounds.stream()
+                .flatMap(List::stream)
+                .toList();
+    }
+
+    // Método del círculo (Berger): la última posición queda fija y el resto rota una posición por ronda.
+    // Con cantidad impar de parejas la posición fija es un bye y quien le toca descansa esa ronda.
+    List<List<Match>> buildRounds(Tournament tournament, List<Pair> pairs) {
+        int pairCount = pairs.size();
+        int size = pairCount % 2 == 0 ? pairCount : pairCount + 1;
+        int rotating = size - 1;
+
+        List<List<Match>> rounds = new ArrayList<>(rotating);
+
+        for (int round = 0; round < rotating; round++) {
+            List<Match> matches = new ArrayList<>(pairCount / 2);
+
+            for (int k = 0; k < size / 2; k++) {
+                int home;
+                int away;
+
+                if (k == 0) {
+                    // Se alterna la localía de la posición fija para que no juegue siempre como pareja 1
+                    home = round % 2 == 0 ? round : rotating;
+                    away = round % 2 == 0 ? rotating : round;
+                } else {
+                    home = (round + k) % rotating;
+                    away = (round - k + rotating) % rotating;
+                }
+
+                if (home >= pairCount || away >= pairCount) {
+                    continue;
+                }
+
+                matches.add(Match.builder()
+                        .tournament(tournament)
+                        .pair1(pairs.get(home))
+                        .pair2(pairs.get(away))
+                        .status(MatchStatus.PENDING)
+                        .round(round + 1)
+                        .build());
+            }
+            rounds.add(matches);
+        }
+        return rounds;
+    }
+
+    // Los partidos de una ronda se reparten en paralelo entre las canchas; la ronda siguiente
+    // arranca cuando termina el último turno de la anterior
+    LocalDateTime schedule(List<List<Match>> rounds, LocalDateTime baseTime) {
+        int slot = 0;
+
+        for (List<Match> round : rounds) {
+            for (int i = 0; i < round.size(); i++) {
+                Match match = round.get(i);
+                match.setCourt(i % courts + 1);
+                match.setScheduledDate(baseTime.plusMinutes((long) (slot + i / courts) * slotMinutes));
+            }
+            slot += (round.size() + courts - 1) / courts;
+        }
+        return baseTime.plusMinutes((long) slot * slotMinutes);
+    }
+
+    @Override
+    public List<PairStanding> calculateStandings(TournamentSnapshot tournament) {
+        StandingsTable table = new StandingsTable(tournament.pairs());
+        table.recordAll(tournament.matches());
+
+        List<PairStanding> standings = table.toSortedList();
+
+        PlacementPoints.assign(standings, PlacementPoints.allMatchesCompleted(tournament.matches()));
+
+        return standings;
+    }
+}
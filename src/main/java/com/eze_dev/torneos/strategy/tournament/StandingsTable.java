@@ -0,0 +1,81 @@
+package com.eze_dev.torneos.strategy.tournament;
+
+import com.eze_dev.torneos.model.snapshot.MatchSnapshot;
+import com.eze_dev.torneos.model.snapshot.PairSnapshot;
+
+import java.util.*;
+
+// Acumulador de posiciones indexado por el índice denso de cada pareja: cada partido se registra en O(1)
+public class StandingsTable {
+
+    public static final Comparator<PairStanding> RANKING_ORDER = Comparator
+            .comparingInt(PairStanding::getWins).reversed()
+            .thenComparing(Comparator.comparingInt((PairStanding ps) -> ps.getGamesWon() - ps.getGamesLost()).reversed());
+
+    private final List<PairStanding> standings;
+    private final PairStanding[] standingsByIndex;
+
+    // Puede recibir sólo parte de las parejas del torneo (un grupo): los índices siguen siendo los del torneo
+    public StandingsTable(Collection<PairSnapshot> pairs) {
+        this.standings = new ArrayList<>(pairs.size());
+        this.standingsByIndex = new PairStanding[pairs.stream().mapToInt(PairSnapshot::index).max().orElse(-1) + 1];
+
+        for (PairSnapshot pair : pairs) {
+            PairStanding standing = new PairStanding(pair, 0, 0, 0, 0, 0, 0);
+            standings.add(standing);
+            standingsByIndex[pair.index()] = standing;
+        }
+    }
+
+    public void recordAll(Collection<MatchSnapshot> matches) {
+        for (MatchSnapshot match : matches) {
+            record(match);
+        }
+    }
+
+    public void record(MatchSnapshot match) {
+        if (!match.completed()) {
+            return;
+        }
+
+        PairStanding ps1 = get(match.pair1());
+        PairStanding ps2 = get(match.pair2());
+
+        int score1 = match.pair1Score();
+        int score2 = match.pair2Score();
+
+        ps1.setMatchesPlayed(ps1.getMatchesPlayed() + 1);
+        ps2.setMatchesPlayed(ps2.getMatchesPlayed() + 1);
+
+        ps1.setGamesWon(ps1.getGamesWon() + score1);
+        ps1.setGamesLost(ps1.getGamesLost() + score2);
+
+        ps2.setGamesWon(ps2.getGamesWon() + score2);
+        ps2.setGamesLost(ps2.getGamesLost() + score1);
+
+        if (score1 > score2) {
+            ps1.setWins(ps1.getWins() + 1);
+            ps2.setLosses(ps2.getLosses() + 1);
+        } else if (score2 > score1) {
+            ps2.setWins(ps2.getWins() + 1);
+            ps1.setLosses(ps1.getLosses() + 1);
+        }
+    }
+
+    public PairStanding get(int pairIndex) {
+        PairStanding standing = pairIndex >= 0 && pairIndex < standingsByIndex.length ? standingsByIndex[pairIndex] : null;
+
+        if (standing == null) {
+            throw new IllegalStateException("Pair not found in standings");
+        }
+
+        return standing;
+    }
+
+    public List<PairStanding> toSortedList() {
+        List<PairStanding> sorted = new ArrayList<>(standings);
+        sorted.sort(RANKING_ORDER);
+
+        return sorted;
+    }
+}
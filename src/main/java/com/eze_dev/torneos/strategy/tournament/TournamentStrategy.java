@@ -2,13 +2,30 @@ package com.eze_dev.torneos.strategy.tournament;
 
 import com.eze_dev.torneos.model.Match;
 import com.eze_dev.torneos.model.Tournament;
+import com.eze_dev.torneos.model.snapshot.TournamentSnapshot;
 
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
 
 public interface TournamentStrategy {
 
     void validateBeforeStart(Tournament tournament);
     List<Match> generateMatches(Tournament tournament);
-    List<PairStanding> calculateStandings(Tournament tournament);
+    List<PairStanding> calculateStandings(TournamentSnapshot tournament);
+
+    // Para torneos ya cargados como entidades, con parejas y partidos inicializados
+    default List<PairStanding> calculateStandings(Tournament tournament) {
+        return calculateStandings(TournamentSnapshot.of(tournament));
+    }
+
+    // Se llama antes de modificar nada, para rechazar resultados que el formato no admite. batchMatchIds son los
+    // partidos que se cargan en la misma operación: un resultado válido por sí solo puede chocar con otro del lote
+    default void validateResult(Match match, Integer pair1Score, Integer pair2Score, Set<UUID> batchMatchIds) {
+    }
+
+    // Los formatos que generan partidos a medida que avanzan lo hacen al completarse cada resultado
+    default void onMatchCompleted(Match match) {
+    }
 }
 
@@ -9,11 +9,16 @@ import org.springframework.stereotype.Component;
 public class TournamentStrategyFactory {
 
     private final QuadrangularStrategy quadrangularStrategy;
+    private final RoundRobinStrategy roundRobinStrategy;
+    private final KnockoutStrategy knockoutStrategy;
+    private final GroupStageKnockoutStrategy groupStageKnockoutStrategy;
 
     public TournamentStrategy getStrategy(TournamentType type) {
         return switch (type) {
             case QUADRANGULAR -> quadrangularStrategy;
-            case KNOCKOUT, ROUND_ROBIN -> throw new UnsupportedOperationException("Strategy not implemented yet for type: " + type);
+            case ROUND_ROBIN -> roundRobinStrategy;
+            case KNOCKOUT -> knockoutStrategy;
+            case GROUPS_KNOCKOUT -> groupStageKnockoutStrategy;
         };
     }
 }
@@ -3,5 +3,6 @@ package com.eze_dev.torneos.types;
 public enum MatchStatus {
 
     PENDING,
-    COMPLETED
+    COMPLETED,
+    BYE
 }
@@ -0,0 +1,8 @@
+package com.eze_dev.torneos.types;
+
+public enum OutboxEventType {
+
+    MATCH_RESULTS_RECORDED,
+    TOURNAMENT_STARTED,
+    TOURNAMENT_FINISHED
+}
@@ -4,5 +4,6 @@ public enum TournamentType {
 
     QUADRANGULAR,
     KNOCKOUT,
-    ROUND_ROBIN
+    ROUND_ROBIN,
+    GROUPS_KNOCKOUT
 }
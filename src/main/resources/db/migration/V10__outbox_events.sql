@@ -0,0 +1,15 @@
+-- Outbox de eventos de dominio: se escribe en la misma transacción que el cambio y lo despacha OutboxService.
+-- Sin FK al torneo: los eventos sobreviven a su borrado y se pueden volver a entregar (replay)
+CREATE TABLE outbox_events (
+    id ${uuid_type} NOT NULL,
+    tournament_id ${uuid_type} NOT NULL,
+    event_type ENUM ('MATCH_RESULTS_RECORDED','TOURNAMENT_FINISHED','TOURNAMENT_STARTED') NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    dispatched_at DATETIME(6),
+    attempts INTEGER NOT NULL,
+    last_error VARCHAR(500),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+-- Pendientes en orden de alta: dispatched_at IS NULL ORDER BY id
+CREATE INDEX idx_outbox_events_pending ON outbox_events (dispatched_at, id);
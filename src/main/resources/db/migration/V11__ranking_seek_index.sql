@@ -0,0 +1,4 @@
+-- Ranking de una categoría y género paginado por cursor: el índice sigue el mismo orden que el ORDER BY
+-- (puntos descendentes, jugador), así la página siguiente es un rango del índice y no se ordena nada
+DROP INDEX idx_ranking_category_gender_points ON player_ranking_points;
+CREATE INDEX idx_ranking_category_gender_seek ON player_ranking_points (category_type, gender_type, total_points DESC, player_id);
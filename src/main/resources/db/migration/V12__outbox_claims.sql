@@ -0,0 +1,7 @@
+-- Reclamo de eventos del outbox: cada lote queda a nombre de un despachador hasta claimed_until, así dos
+-- instancias no entregan el mismo evento. Un reclamo vencido (la instancia se cayó) se puede volver a tomar
+ALTER TABLE outbox_events ADD COLUMN claimed_by VARCHAR(36);
+ALTER TABLE outbox_events ADD COLUMN claimed_until DATETIME(6);
+
+-- Eventos anteriores del mismo torneo todavía reclamados (findClaimable)
+CREATE INDEX idx_outbox_events_tournament ON outbox_events (tournament_id, id);
@@ -0,0 +1,65 @@
+-- Esquema tal como lo venía creando Hibernate con ddl-auto=update antes de introducir las migraciones.
+-- En bases existentes esta versión se marca como aplicada (spring.flyway.baseline-on-migrate) y
+-- los cambios posteriores llegan con V2 en adelante
+-- ${uuid_type} sale de spring.flyway.placeholders.uuid_type y tiene que coincidir con
+-- hibernate.type.preferred_uuid_jdbc_type: VARCHAR(36) o BINARY(16)
+
+CREATE TABLE players (
+    id ${uuid_type} NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    last_name VARCHAR(255) NOT NULL,
+    gender_type TINYINT NOT NULL,
+    dni VARCHAR(255) NOT NULL,
+    phone_number VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_players_dni UNIQUE (dni)
+) ENGINE = InnoDB;
+
+CREATE TABLE pairs (
+    id ${uuid_type} NOT NULL,
+    player1_id ${uuid_type} NOT NULL,
+    player2_id ${uuid_type} NOT NULL,
+    team_name VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_pairs_team_name UNIQUE (team_name)
+) ENGINE = InnoDB;
+
+CREATE TABLE tournaments (
+    id ${uuid_type} NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    start_date DATETIME(6) NOT NULL,
+    end_date DATETIME(6),
+    address VARCHAR(255),
+    winning_match_rule ENUM ('BEST_OF_3_SETS','ONE_SET_TO_5','ONE_SET_TO_6','ONE_SET_TO_8') NOT NULL,
+    tournament_type ENUM ('KNOCKOUT','QUADRANGULAR','ROUND_ROBIN') NOT NULL,
+    category_type ENUM ('EIGHTH','FIFTH','FIRST','FOURTH','SECOND','SEVENTH','SIXTH','THIRD') NOT NULL,
+    gender_type ENUM ('FEMININE','MASCULINE','MIXED') NOT NULL,
+    status ENUM ('CREATED','FINISHED','IN_PROGRESS') NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_tournaments_name UNIQUE (name)
+) ENGINE = InnoDB;
+
+CREATE TABLE tournament_pairs (
+    tournament_id ${uuid_type} NOT NULL,
+    pair_id ${uuid_type} NOT NULL
+) ENGINE = InnoDB;
+
+CREATE TABLE matches (
+    id ${uuid_type} NOT NULL,
+    tournament_id ${uuid_type} NOT NULL,
+    pair1_id ${uuid_type} NOT NULL,
+    pair2_id ${uuid_type} NOT NULL,
+    pair1score INTEGER,
+    pair2score INTEGER,
+    scheduled_date DATETIME(6) NOT NULL,
+    status ENUM ('COMPLETED','PENDING') NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+ALTER TABLE pairs ADD CONSTRAINT fk_pairs_player1 FOREIGN KEY (player1_id) REFERENCES players (id);
+ALTER TABLE pairs ADD CONSTRAINT fk_pairs_player2 FOREIGN KEY (player2_id) REFERENCES players (id);
+ALTER TABLE tournament_pairs ADD CONSTRAINT fk_tournament_pairs_tournament FOREIGN KEY (tournament_id) REFERENCES tournaments (id);
+ALTER TABLE tournament_pairs ADD CONSTRAINT fk_tournament_pairs_pair FOREIGN KEY (pair_id) REFERENCES pairs (id);
+ALTER TABLE matches ADD CONSTRAINT fk_matches_tournament FOREIGN KEY (tournament_id) REFERENCES tournaments (id);
+ALTER TABLE matches ADD CONSTRAINT fk_matches_pair1 FOREIGN KEY (pair1_id) REFERENCES pairs (id);
+ALTER TABLE matches ADD CONSTRAINT fk_matches_pair2 FOREIGN KEY (pair2_id) REFERENCES pairs (id);
@@ -0,0 +1,12 @@
+-- Posiciones por jugador que se actualizan con cada resultado en lugar de recalcularse en cada consulta
+CREATE TABLE player_standings (
+    player_id ${uuid_type} NOT NULL,
+    matches_played INTEGER NOT NULL,
+    matches_won INTEGER NOT NULL,
+    matches_lost INTEGER NOT NULL,
+    games_won INTEGER NOT NULL,
+    games_lost INTEGER NOT NULL,
+    PRIMARY KEY (player_id)
+) ENGINE = InnoDB;
+
+ALTER TABLE player_standings ADD CONSTRAINT fk_player_standings_player FOREIGN KEY (player_id) REFERENCES players (id);
@@ -0,0 +1,13 @@
+-- Ledger de puntos de ranking por jugador, categoría y género, sumado al finalizar cada torneo
+CREATE TABLE player_ranking_points (
+    player_id ${uuid_type} NOT NULL,
+    category_type ENUM ('EIGHTH','FIFTH','FIRST','FOURTH','SECOND','SEVENTH','SIXTH','THIRD') NOT NULL,
+    gender_type ENUM ('FEMININE','MASCULINE','MIXED') NOT NULL,
+    total_points INTEGER NOT NULL,
+    tournaments_played INTEGER NOT NULL,
+    PRIMARY KEY (player_id, category_type, gender_type)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_ranking_category_gender_points ON player_ranking_points (category_type, gender_type, total_points);
+
+ALTER TABLE player_ranking_points ADD CONSTRAINT fk_player_ranking_points_player FOREIGN KEY (player_id) REFERENCES players (id);
@@ -0,0 +1,3 @@
+-- Ronda y cancha de cada partido, asignadas al armar el fixture de todos contra todos
+ALTER TABLE matches ADD COLUMN round_number INTEGER;
+ALTER TABLE matches ADD COLUMN court INTEGER;
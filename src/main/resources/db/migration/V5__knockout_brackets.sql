@@ -0,0 +1,5 @@
+-- Eliminación directa: posición en el cuadro, partidos BYE sin segunda pareja y un único partido por casillero
+ALTER TABLE matches ADD COLUMN bracket_position INTEGER;
+ALTER TABLE matches MODIFY COLUMN pair2_id ${uuid_type} NULL;
+ALTER TABLE matches MODIFY COLUMN status ENUM ('BYE','COMPLETED','PENDING') NOT NULL;
+ALTER TABLE matches ADD CONSTRAINT uk_match_bracket_slot UNIQUE (tournament_id, round_number, bracket_position);
@@ -0,0 +1,3 @@
+-- Fase de grupos más eliminación directa: grupo de cada partido y el nuevo tipo de torneo
+ALTER TABLE matches ADD COLUMN group_number INTEGER;
+ALTER TABLE tournaments MODIFY COLUMN tournament_type ENUM ('GROUPS_KNOCKOUT','KNOCKOUT','QUADRANGULAR','ROUND_ROBIN') NOT NULL;
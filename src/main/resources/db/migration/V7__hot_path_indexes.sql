@@ -0,0 +1,14 @@
+-- Índices explícitos para las búsquedas frecuentes, así no dependen de los que MySQL crea de paso con cada FK
+
+-- findByTournamentId y las consultas de progreso / fase filtradas por estado
+CREATE INDEX idx_matches_tournament_status ON matches (tournament_id, status);
+
+-- findByPlayer1_IdOrPlayer2_Id: el OR se resuelve con index merge sobre ambos
+CREATE INDEX idx_pairs_player1 ON pairs (player1_id);
+CREATE INDEX idx_pairs_player2 ON pairs (player2_id);
+
+-- Torneos de una pareja: la tabla de unión sólo se recorría desde el lado del torneo
+CREATE INDEX idx_tournament_pairs_pair ON tournament_pairs (pair_id, tournament_id);
+
+-- Filtros de ranking por categoría, género y estado del torneo
+CREATE INDEX idx_tournaments_category_gender_status ON tournaments (category_type, gender_type, status);
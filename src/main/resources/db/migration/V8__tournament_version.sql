@@ -0,0 +1,2 @@
+-- Versión optimista del torneo (@Version en Tournament), base de los ETag de la API
+ALTER TABLE tournaments ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,3 @@
+-- Tournament.pairs pasa a ser un Set: cada pareja figura una sola vez por torneo.
+-- La clave también resuelve la consulta de pertenencia (tournament_id, pair_id) sin leer la tabla
+ALTER TABLE tournament_pairs ADD CONSTRAINT pk_tournament_pairs PRIMARY KEY (tournament_id, pair_id);
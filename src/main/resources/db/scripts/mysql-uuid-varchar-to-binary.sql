@@ -0,0 +1,112 @@
+-- Migra los ids UUID de VARCHAR(36) a BINARY(16) en MySQL.
+-- Correr con la aplicación detenida y con backup previo; después arrancar con
+-- spring.jpa.properties.hibernate.type.preferred_uuid_jdbc_type=BINARY
+-- y spring.flyway.placeholders.uuid_type=BINARY(16).
+-- El orden de bytes (UNHEX del texto sin guiones) es el mismo que usa Hibernate para BINARY,
+-- así que los ids existentes se conservan. Los ids viejos siguen siendo v4; los nuevos se generan v7.
+
+DELIMITER //
+
+-- Las FKs que generó Hibernate tienen nombres aleatorios: se buscan en information_schema
+DROP PROCEDURE IF EXISTS drop_uuid_foreign_keys //
+CREATE PROCEDURE drop_uuid_foreign_keys()
+BEGIN
+    DECLARE done INT DEFAULT FALSE;
+    DECLARE v_table VARCHAR(64);
+    DECLARE v_constraint VARCHAR(64);
+    DECLARE fks CURSOR FOR
+        SELECT table_name, constraint_name
+        FROM information_schema.referential_constraints
+        WHERE constraint_schema = DATABASE()
+          AND referenced_table_name IN ('players', 'pairs', 'tournaments');
+    DECLARE CONTINUE HANDLER FOR NOT FOUND SET done = TRUE;
+
+    OPEN fks;
+    drop_loop: LOOP
+        FETCH fks INTO v_table, v_constraint;
+        IF done THEN
+            LEAVE drop_loop;
+        END IF;
+        SET @ddl = CONCAT('ALTER TABLE `', v_table, '` DROP FOREIGN KEY `', v_constraint, '`');
+        PREPARE stmt FROM @ddl;
+        EXECUTE stmt;
+        DEALLOCATE PREPARE stmt;
+    END LOOP;
+    CLOSE fks;
+END //
+
+DELIMITER ;
+
+CALL drop_uuid_foreign_keys();
+DROP PROCEDURE drop_uuid_foreign_keys;
+
+-- 1) VARBINARY conserva el texto tal cual; 2) se convierte a los 16 bytes; 3) se fija el ancho
+ALTER TABLE players MODIFY id VARBINARY(36) NOT NULL;
+UPDATE players SET id = UNHEX(REPLACE(id, '-', ''));
+ALTER TABLE players MODIFY id BINARY(16) NOT NULL;
+
+ALTER TABLE pairs
+    MODIFY id VARBINARY(36) NOT NULL,
+    MODIFY player1_id VARBINARY(36) NOT NULL,
+    MODIFY player2_id VARBINARY(36) NOT NULL;
+UPDATE pairs SET
+    id = UNHEX(REPLACE(id, '-', '')),
+    player1_id = UNHEX(REPLACE(player1_id, '-', '')),
+    player2_id = UNHEX(REPLACE(player2_id, '-', ''));
+ALTER TABLE pairs
+    MODIFY id BINARY(16) NOT NULL,
+    MODIFY player1_id BINARY(16) NOT NULL,
+    MODIFY player2_id BINARY(16) NOT NULL;
+
+ALTER TABLE tournaments MODIFY id VARBINARY(36) NOT NULL;
+UPDATE tournaments SET id = UNHEX(REPLACE(id, '-', ''));
+ALTER TABLE tournaments MODIFY id BINARY(16) NOT NULL;
+
+ALTER TABLE tournament_pairs
+    MODIFY tournament_id VARBINARY(36) NOT NULL,
+    MODIFY pair_id VARBINARY(36) NOT NULL;
+UPDATE tournament_pairs SET
+    tournament_id = UNHEX(REPLACE(tournament_id, '-', '')),
+    pair_id = UNHEX(REPLACE(pair_id, '-', ''));
+ALTER TABLE tournament_pairs
+    MODIFY tournament_id BINARY(16) NOT NULL,
+    MODIFY pair_id BINARY(16) NOT NULL;
+
+ALTER TABLE matches
+    MODIFY id VARBINARY(36) NOT NULL,
+    MODIFY tournament_id VARBINARY(36) NOT NULL,
+    MODIFY pair1_id VARBINARY(36) NOT NULL,
+    MODIFY pair2_id VARBINARY(36) NULL;
+UPDATE matches SET
+    id = UNHEX(REPLACE(id, '-', '')),
+    tournament_id = UNHEX(REPLACE(tournament_id, '-', '')),
+    pair1_id = UNHEX(REPLACE(pair1_id, '-', '')),
+    pair2_id = UNHEX(REPLACE(pair2_id, '-', ''));
+ALTER TABLE matches
+    MODIFY id BINARY(16) NOT NULL,
+    MODIFY tournament_id BINARY(16) NOT NULL,
+    MODIFY pair1_id BINARY(16) NOT NULL,
+    MODIFY pair2_id BINARY(16) NULL;
+
+ALTER TABLE player_standings MODIFY player_id VARBINARY(36) NOT NULL;
+UPDATE player_standings SET player_id = UNHEX(REPLACE(player_id, '-', ''));
+ALTER TABLE player_standings MODIFY player_id BINARY(16) NOT NULL;
+
+ALTER TABLE player_ranking_points MODIFY player_id VARBINARY(36) NOT NULL;
+UPDATE player_ranking_points SET player_id = UNHEX(REPLACE(player_id, '-', ''));
+ALTER TABLE player_ranking_points MODIFY player_id BINARY(16) NOT NULL;
+
+ALTER TABLE pairs
+    ADD CONSTRAINT fk_pairs_player1 FOREIGN KEY (player1_id) REFERENCES players (id),
+    ADD CONSTRAINT fk_pairs_player2 FOREIGN KEY (player2_id) REFERENCES players (id);
+ALTER TABLE tournament_pairs
+    ADD CONSTRAINT fk_tournament_pairs_tournament FOREIGN KEY (tournament_id) REFERENCES tournaments (id),
+    ADD CONSTRAINT fk_tournament_pairs_pair FOREIGN KEY (pair_id) REFERENCES pairs (id);
+ALTER TABLE matches
+    ADD CONSTRAINT fk_matches_tournament FOREIGN KEY (tournament_id) REFERENCES tournaments (id),
+    ADD CONSTRAINT fk_matches_pair1 FOREIGN KEY (pair1_id) REFERENCES pairs (id),
+    ADD CONSTRAINT fk_matches_pair2 FOREIGN KEY (pair2_id) REFERENCES pairs (id);
+ALTER TABLE player_standings
+    ADD CONSTRAINT fk_player_standings_player FOREIGN KEY (player_id) REFERENCES players (id);
+ALTER TABLE player_ranking_points
+    ADD CONSTRAINT fk_player_ranking_points_player FOREIGN KEY (player_id) REFERENCES players (id);
@@ -0,0 +1,181 @@
+package com.eze_dev.torneos.controller;
+
+import com.eze_dev.torneos.model.Match;
+import com.eze_dev.torneos.model.Pair;
+import com.eze_dev.torneos.model.Player;
+import com.eze_dev.torneos.model.Tournament;
+import com.eze_dev.torneos.repository.MatchRepository;
+import com.eze_dev.torneos.repository.PairRepository;
+import com.eze_dev.torneos.repository.PlayerRepository;
+import com.eze_dev.torneos.repository.TournamentRepository;
+import com.eze_dev.torneos.service.interfaces.ITournamentService;
+import com.eze_dev.torneos.types.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class MatchControllerTests {
+
+    private static final int PAIRS = 4;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ITournamentService tournamentService;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private PairRepository pairRepository;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    private UUID tournamentId;
+    private UUID otherTournamentId;
+
+    @BeforeEach
+    void setUp() {
+        tournamentId = startKnockout();
+        otherTournamentId = startKnockout();
+    }
+
+    @Test
+    void batchReportsEachRejectedItemAndAppliesTheRest() throws Exception {
+        UUID accepted = match(tournamentId, 1, 0).getId();
+        UUID draw = match(tournamentId, 1, 1).getId();
+        UUID foreign = match(otherTournamentId, 1, 0).getId();
+        UUID unknown = UUID.randomUUID();
+
+        putResults(tournamentId, """
+                {"%s": {"pair1Score": 6, "pair2Score": 3},
+                 "%s": {"pair1Score": 4, "pair2Score": 4},
+                 "%s": {"pair1Score": 6, "pair2Score": 1},
+                 "%s": {"pair1Score": 6, "pair2Score": 0}}
+                """.formatted(accepted, draw, foreign, unknown))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].updated").value(true))
+                .andExpect(jsonPath("$[0].match.pair1Score").value(6))
+                .andExpect(jsonPath("$[1].updated").value(false))
+                .andExpect(jsonPath("$[1].error").value("A knockout match cannot end in a draw."))
+                .andExpect(jsonPath("$[2].updated").value(false))
+                .andExpect(jsonPath("$[2].error").value("Match does not belong to the tournament."))
+                .andExpect(jsonPath("$[3].updated").value(false))
+                .andExpect(jsonPath("$[3].error", startsWith("Match not found")));
+
+        assertThat(matchRepository.findById(accepted).orElseThrow().getStatus()).isEqualTo(MatchStatus.COMPLETED);
+        assertThat(matchRepository.findById(draw).orElseThrow().getStatus()).isEqualTo(MatchStatus.PENDING);
+        assertThat(matchRepository.findById(foreign).orElseThrow().getStatus()).isEqualTo(MatchStatus.PENDING);
+    }
+
+    @Test
+    void winnerChangeIsRejectedWhenTheNextRoundResultComesInTheSameBatch() throws Exception {
+        Match upper = match(tournamentId, 1, 0);
+        putResult(tournamentId, upper.getId(), 6, 3).andExpect(status().isOk());
+        putResult(tournamentId, match(tournamentId, 1, 1).getId(), 6, 3).andExpect(status().isOk());
+        UUID finalId = match(tournamentId, 2, 0).getId();
+
+        // Sin la validación por lote el partido de primera ronda cambiaba de ganador después de validar la final
+        // y la transacción entera terminaba en un 400 sin resultados por ítem
+        putResults(tournamentId, """
+                {"%s": {"pair1Score": 3, "pair2Score": 6},
+                 "%s": {"pair1Score": 6, "pair2Score": 2}}
+                """.formatted(upper.getId(), finalId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].updated").value(false))
+                .andExpect(jsonPath("$[0].error").value("The winner cannot change in the same batch as the next round match result."))
+                .andExpect(jsonPath("$[1].updated").value(true));
+
+        Match storedFinal = matchRepository.findById(finalId).orElseThrow();
+        assertThat(storedFinal.getStatus()).isEqualTo(MatchStatus.COMPLETED);
+        assertThat(storedFinal.getPair1().getId()).isEqualTo(upper.getPair1().getId());
+        assertThat(matchRepository.findById(upper.getId()).orElseThrow().getPair1Score()).isEqualTo(6);
+    }
+
+    @Test
+    void singleResultOfAMatchFromAnotherTournamentIsRejected() throws Exception {
+        UUID foreign = match(otherTournamentId, 1, 0).getId();
+        long otherVersion = tournamentService.getVersion(otherTournamentId);
+
+        putResult(tournamentId, foreign, 6, 1).andExpect(status().isBadRequest());
+
+        assertThat(matchRepository.findById(foreign).orElseThrow().getStatus()).isEqualTo(MatchStatus.PENDING);
+        assertThat(tournamentService.getVersion(otherTournamentId)).isEqualTo(otherVersion);
+    }
+
+    private ResultActions putResult(UUID tournament, UUID matchId, int pair1Score, int pair2Score) throws Exception {
+        return mockMvc.perform(put("/api/v1/tournaments/" + tournament + "/matches/" + matchId + "/result")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"pair1Score\": %d, \"pair2Score\": %d}".formatted(pair1Score, pair2Score)));
+    }
+
+    private ResultActions putResults(UUID tournament, String body) throws Exception {
+        return mockMvc.perform(put("/api/v1/tournaments/" + tournament + "/matches/results")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body));
+    }
+
+    private Match match(UUID tournament, int round, int bracketPosition) {
+        return matchRepository.findByTournamentIdAndRoundAndBracketPosition(tournament, round, bracketPosition).orElseThrow();
+    }
+
+    private UUID startKnockout() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        Set<Pair> pairs = new LinkedHashSet<>();
+
+        for (int i = 0; i < PAIRS; i++) {
+            pairs.add(pairRepository.save(Pair.builder()
+                    .player1(playerRepository.save(buildPlayer(suffix + "a" + i)))
+                    .player2(playerRepository.save(buildPlayer(suffix + "b" + i)))
+                    .teamName("Knockout " + suffix + "-" + i)
+                    .build()));
+        }
+
+        UUID id = tournamentRepository.save(Tournament.builder()
+                .name("Knockout " + suffix)
+                .startDate(LocalDateTime.now())
+                .winningMatchRule(WinningMatchRuleType.ONE_SET_TO_6)
+                .tournamentType(TournamentType.KNOCKOUT)
+                .categoryType(CategoryType.FIRST)
+                .genderType(GenderType.MASCULINE)
+                .status(TournamentStatus.CREATED)
+                .pairs(pairs)
+                .build()).getId();
+
+        tournamentService.startTournament(id);
+        return id;
+    }
+
+    private Player buildPlayer(String dni) {
+        return Player.builder()
+                .name("Name")
+                .lastName("Last")
+                .genderType(GenderType.MASCULINE)
+                .dni(dni)
+                .phoneNumber("12345678")
+                .build();
+    }
+}
@@ -0,0 +1,270 @@
+package com.eze_dev.torneos.controller;
+
+import com.eze_dev.torneos.model.Match;
+import com.eze_dev.torneos.model.Pair;
+import com.eze_dev.torneos.model.Player;
+import com.eze_dev.torneos.model.Tournament;
+import com.eze_dev.torneos.repository.PairRepository;
+import com.eze_dev.torneos.repository.PlayerRepository;
+import com.eze_dev.torneos.repository.TournamentRepository;
+import com.eze_dev.torneos.types.*;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class TournamentControllerQueryCountTests {
+
+    private static final int PAIRS = 64;
+    // Consulta de la versión del torneo para el ETag, previa a cargar el cuerpo
+    private static final int VERSION_LOOKUP = 1;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private PairRepository pairRepository;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private UUID tournamentId;
+    private List<Pair> pairs;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        pairs = new ArrayList<>();
+
+        for (int i = 0; i < PAIRS; i++) {
+            Player player1 = playerRepository.save(buildPlayer(suffix + "a" + i));
+            Player player2 = playerRepository.save(buildPlayer(suffix + "b" + i));
+
+            pairs.add(pairRepository.save(Pair.builder()
+                    .player1(player1)
+                    .player2(player2)
+                    .teamName("Team " + suffix + "-" + i)
+                    .build()));
+        }
+
+        Tournament tournament = Tournament.builder()
+                .name("Tournament " + suffix)
+                .startDate(LocalDateTime.now())
+                .winningMatchRule(WinningMatchRuleType.ONE_SET_TO_6)
+                .tournamentType(TournamentType.QUADRANGULAR)
+                .categoryType(CategoryType.FIRST)
+                .genderType(GenderType.MASCULINE)
+                .status(TournamentStatus.IN_PROGRESS)
+                .pairs(new LinkedHashSet<>(pairs))
+                .build();
+
+        for (int i = 0; i < PAIRS; i++) {
+            tournament.getMatches().add(Match.builder()
+                    .tournament(tournament)
+                    .pair1(pairs.get(i))
+                    .pair2(pairs.get((i + 1) % PAIRS))
+                    .pair1Score(i % 2 == 0 ? 6 : null)
+                    .pair2Score(i % 2 == 0 ? 3 : null)
+                    .scheduledDate(LocalDateTime.now())
+                    .status(i % 2 == 0 ? MatchStatus.COMPLETED : MatchStatus.PENDING)
+                    .build());
+        }
+
+        tournamentId = tournamentRepository.save(tournament).getId();
+    }
+
+    @Test
+    void pairsEndpointLoadsInOneStatement() throws Exception {
+        assertThat(countStatements("/api/v1/tournaments/" + tournamentId + "/pairs")).isEqualTo(VERSION_LOOKUP + 1);
+    }
+
+    @Test
+    void matchesEndpointLoadsInOneStatement() throws Exception {
+        assertThat(countStatements("/api/v1/tournaments/" + tournamentId + "/matches")).isEqualTo(VERSION_LOOKUP + 1);
+    }
+
+    @Test
+    void standingsEndpointLoadsInOneStatement() throws Exception {
+        assertThat(countStatements("/api/v1/tournaments/" + tournamentId + "/standings")).isEqualTo(VERSION_LOOKUP + 1);
+    }
+
+    @Test
+    void standingsAreComputedWithoutLoadingEntities() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        countStatements("/api/v1/tournaments/" + tournamentId + "/standings");
+
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isZero();
+    }
+
+    @Test
+    void progressEndpointLoadsInOneStatement() throws Exception {
+        assertThat(countStatements("/api/v1/tournaments/" + tournamentId + "/progress")).isEqualTo(VERSION_LOOKUP + 1);
+    }
+
+    @Test
+    void progressIsServedFromCacheUntilAMatchResultChanges() throws Exception {
+        String url = "/api/v1/tournaments/" + tournamentId + "/progress";
+        countStatements(url);
+
+        assertThat(countStatements(url)).isEqualTo(VERSION_LOOKUP);
+
+        Match pending = tournamentRepository.findWithMatchesById(tournamentId).orElseThrow()
+                .getMatches().stream()
+                .filter(match -> match.getStatus() == MatchStatus.PENDING)
+                .findFirst()
+                .orElseThrow();
+
+        mockMvc.perform(put("/api/v1/tournaments/" + tournamentId + "/matches/" + pending.getId() + "/result")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"pair1Score\": 6, \"pair2Score\": 2}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.completedMatches").value(PAIRS / 2 + 1));
+    }
+
+    @Test
+    void unchangedStandingsAreNotModifiedUntilAMatchResultBumpsTheVersion() throws Exception {
+        String url = "/api/v1/tournaments/" + tournamentId + "/standings";
+        String eTag = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(VERSION_LOOKUP);
+
+        Match pending = tournamentRepository.findWithMatchesById(tournamentId).orElseThrow()
+                .getMatches().stream()
+                .filter(match -> match.getStatus() == MatchStatus.PENDING)
+                .findFirst()
+                .orElseThrow();
+
+        mockMvc.perform(put("/api/v1/tournaments/" + tournamentId + "/matches/" + pending.getId() + "/result")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"pair1Score\": 6, \"pair2Score\": 2}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void renamingAPairOrAPlayerChangesTheETagOfItsTournaments() throws Exception {
+        String url = "/api/v1/tournaments/" + tournamentId + "/pairs";
+        Pair pair = pairs.get(0);
+        String eTag = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(put("/api/v1/tournaments/pairs/" + pair.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"player1Id\": \"" + pair.getPlayer1().getId() + "\", \"player2Id\": \""
+                                + pair.getPlayer2().getId() + "\", \"teamName\": \"Renamed " + pair.getId() + "\"}"))
+                .andExpect(status().isOk());
+
+        // Los nombres no están en la fila del torneo, pero el cambio igual tiene que invalidar el ETag
+        String renamedPairETag = mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.teamName == 'Renamed " + pair.getId() + "')]").exists())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(put("/api/v1/players/" + pair.getPlayer1().getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"Renamed\"}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, renamedPairETag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.player1.name == 'Renamed')]").exists());
+    }
+
+    @Test
+    void addingAndRemovingAPairNeverLoadsThePairSet() throws Exception {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        Pair extra = pairRepository.save(Pair.builder()
+                .player1(playerRepository.save(buildPlayer(suffix + "x")))
+                .player2(playerRepository.save(buildPlayer(suffix + "y")))
+                .teamName("Extra " + suffix)
+                .build());
+        String pairUrl = "/api/v1/tournaments/" + tournamentId + "/pairs/" + extra.getId();
+        String pairsUrl = "/api/v1/tournaments/" + tournamentId + "/pairs";
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        mockMvc.perform(get(pairsUrl)).andExpect(jsonPath("$.length()").value(PAIRS));
+        statistics.clear();
+
+        mockMvc.perform(put(pairUrl)).andExpect(status().is2xxSuccessful());
+        mockMvc.perform(put(pairUrl)).andExpect(status().isBadRequest());
+
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+        // La colección cacheada se invalida con el alta: el listado ya trae a la pareja nueva
+        mockMvc.perform(get(pairsUrl)).andExpect(jsonPath("$.length()").value(PAIRS + 1));
+        statistics.clear();
+
+        mockMvc.perform(delete(pairUrl)).andExpect(status().is2xxSuccessful());
+        mockMvc.perform(delete(pairUrl)).andExpect(status().isBadRequest());
+
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+        mockMvc.perform(get(pairsUrl)).andExpect(jsonPath("$.length()").value(PAIRS));
+    }
+
+    @Test
+    void summaryEndpointLoadsInOneStatement() throws Exception {
+        assertThat(countStatements("/api/v1/tournaments/summary")).isEqualTo(1);
+    }
+
+    private long countStatements(String url) throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(get(url)).andExpect(status().isOk());
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Player buildPlayer(String dni) {
+        return Player.builder()
+                .name("Name")
+                .lastName("Last")
+                .genderType(GenderType.MASCULINE)
+                .dni(dni)
+                .phoneNumber("12345678")
+                .build();
+    }
+}
@@ -0,0 +1,196 @@
+package com.eze_dev.torneos.controller;
+
+import com.eze_dev.torneos.dto.update.MatchResultUpdateDto;
+import com.eze_dev.torneos.model.Match;
+import com.eze_dev.torneos.model.Pair;
+import com.eze_dev.torneos.model.Player;
+import com.eze_dev.torneos.model.Tournament;
+import com.eze_dev.torneos.repository.PairRepository;
+import com.eze_dev.torneos.repository.PlayerRepository;
+import com.eze_dev.torneos.repository.TournamentRepository;
+import com.eze_dev.torneos.service.interfaces.IMatchService;
+import com.eze_dev.torneos.types.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class TournamentLiveControllerTests {
+
+    private static final int PAIRS = 4;
+    private static final long WAIT_MS = 5_000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private PairRepository pairRepository;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private IMatchService matchService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private UUID tournamentId;
+    private UUID matchId;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        List<Pair> pairs = new ArrayList<>();
+
+        for (int i = 0; i < PAIRS; i++) {
+            Player player1 = playerRepository.save(buildPlayer(suffix + "a" + i));
+            Player player2 = playerRepository.save(buildPlayer(suffix + "b" + i));
+
+            pairs.add(pairRepository.save(Pair.builder()
+                    .player1(player1)
+                    .player2(player2)
+                    .teamName("Live " + suffix + "-" + i)
+                    .build()));
+        }
+
+        Tournament tournament = Tournament.builder()
+                .name("Live " + suffix)
+                .startDate(LocalDateTime.now())
+                .winningMatchRule(WinningMatchRuleType.ONE_SET_TO_6)
+                .tournamentType(TournamentType.QUADRANGULAR)
+                .categoryType(CategoryType.FIRST)
+                .genderType(GenderType.MASCULINE)
+                .status(TournamentStatus.IN_PROGRESS)
+                .pairs(new LinkedHashSet<>(pairs))
+                .build();
+
+        for (int i = 0; i < PAIRS; i++) {
+            tournament.getMatches().add(Match.builder()
+                    .tournament(tournament)
+                    .pair1(pairs.get(i))
+                    .pair2(pairs.get((i + 1) % PAIRS))
+                    .scheduledDate(LocalDateTime.now())
+                    .status(MatchStatus.PENDING)
+                    .build());
+        }
+
+        Tournament saved = tournamentRepository.save(tournament);
+        tournamentId = saved.getId();
+        matchId = saved.getMatches().get(0).getId();
+    }
+
+    @Test
+    void liveFeedSendsSnapshotThenResultWithChangedStandings() throws Exception {
+        MockHttpServletResponse stream = mockMvc.perform(get("/api/v1/tournaments/" + tournamentId + "/live"))
+                .andExpect(request().asyncStarted())
+                .andReturn().getResponse();
+
+        awaitContent(stream, "event:snapshot");
+
+        mockMvc.perform(put("/api/v1/tournaments/" + tournamentId + "/matches/" + matchId + "/result")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"pair1Score\": 6, \"pair2Score\": 3}"))
+                .andExpect(status().isOk());
+
+        String content = awaitContent(stream, "event:result");
+        String result = content.substring(content.indexOf("event:result"));
+
+        assertThat(result).contains(matchId.toString());
+        // Sólo cambian las filas de las dos parejas del partido
+        assertThat(result.split("\"pairName\"", -1)).hasSize(3);
+    }
+
+    @Test
+    void snapshotOfALateSubscriberDoesNotSwallowThePendingResultDelta() throws Exception {
+        MockHttpServletResponse stream = mockMvc.perform(get("/api/v1/tournaments/" + tournamentId + "/live"))
+                .andExpect(request().asyncStarted())
+                .andReturn().getResponse();
+
+        awaitContent(stream, "event:snapshot");
+
+        // Un espectador nuevo entra después del commit pero antes de que corra el broadcast del resultado.
+        // Los oyentes AFTER_COMMIT corren en afterCompletion, y el orden 0 queda entre la invalidación de la
+        // caché (HIGHEST_PRECEDENCE) y el oyente del canal en vivo, registrado después
+        transactionTemplate.executeWithoutResult(status -> {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public int getOrder() {
+                    return 0;
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    try {
+                        MockHttpServletResponse late = mockMvc.perform(get("/api/v1/tournaments/" + tournamentId + "/live"))
+                                .andReturn().getResponse();
+                        awaitContent(late, "\"matchesPlayed\":1");
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            });
+
+            matchService.updateMatchResult(tournamentId, matchId, new MatchResultUpdateDto(6, 3));
+        });
+
+        String content = awaitContent(stream, "event:result");
+        String result = content.substring(content.indexOf("event:result"));
+
+        // Los espectadores anteriores reciben igual las filas de las dos parejas del partido
+        assertThat(result.split("\"pairName\"", -1)).hasSize(3);
+    }
+
+    @Test
+    void liveFeedOfUnknownTournamentIsNotFound() throws Exception {
+        mockMvc.perform(get("/api/v1/tournaments/" + UUID.randomUUID() + "/live"))
+                .andExpect(status().isNotFound());
+    }
+
+    private String awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + WAIT_MS;
+        String content = response.getContentAsString();
+
+        while (!content.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            content = response.getContentAsString();
+        }
+
+        assertThat(content).contains(expected);
+        return content;
+    }
+
+    private Player buildPlayer(String dni) {
+        return Player.builder()
+                .name("Name")
+                .lastName("Last")
+                .genderType(GenderType.MASCULINE)
+                .dni(dni)
+                .phoneNumber("12345678")
+                .build();
+    }
+}
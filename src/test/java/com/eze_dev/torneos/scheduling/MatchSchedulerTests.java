@@ -0,0 +1,140 @@
+package com.eze_dev.torneos.scheduling;
+
+import com.eze_dev.torneos.model.Match;
+import com.eze_dev.torneos.model.Pair;
+import com.eze_dev.torneos.model.Player;
+import com.eze_dev.torneos.types.MatchStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MatchSchedulerTests {
+
+    private static final int SLOT_MINUTES = 60;
+    private static final LocalDateTime START = LocalDateTime.of(2025, 3, 1, 9, 0);
+
+    private final MatchScheduler scheduler = new MatchScheduler(4, SLOT_MINUTES, 0);
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 4, 6})
+    void playersSharedBySeveralPairsAreNeverBookedTwiceInASlot(int courts) {
+        List<Match> matches = matchesWithSharedPlayers(6);
+
+        scheduler.schedule(matches, new ScheduleOptions(START, courts, SLOT_MINUTES, 0));
+
+        for (List<Match> slot : bySlot(matches).values()) {
+            assertThat(slot.size()).isLessThanOrEqualTo(courts);
+            assertThat(slot).extracting(Match::getCourt).doesNotHaveDuplicates().allMatch(court -> court >= 1 && court <= courts);
+            assertThat(slot.stream().flatMap(match -> players(match).stream()).toList()).doesNotHaveDuplicates();
+        }
+
+        assertThat(scheduler.hasPlayerOverlap(matches, SLOT_MINUTES)).isFalse();
+    }
+
+    @Test
+    void pairsRestTheRequestedTimeBetweenMatches() {
+        List<Match> matches = matchesWithSharedPlayers(5);
+
+        scheduler.schedule(matches, new ScheduleOptions(START, 4, SLOT_MINUTES, 90));
+
+        Map<UUID, List<LocalDateTime>> startsByPair = new HashMap<>();
+        for (Match match : matches) {
+            startsByPair.computeIfAbsent(match.getPair1().getId(), id -> new ArrayList<>()).add(match.getScheduledDate());
+            startsByPair.computeIfAbsent(match.getPair2().getId(), id -> new ArrayList<>()).add(match.getScheduledDate());
+        }
+
+        // 90 minutos de descanso con turnos de 60 son dos turnos libres entre partidos de la misma pareja
+        for (List<LocalDateTime> starts : startsByPair.values()) {
+            starts.sort(Comparator.naturalOrder());
+
+            for (int i = 1; i < starts.size(); i++) {
+                assertThat(starts.get(i)).isAfterOrEqualTo(starts.get(i - 1).plusMinutes(3L * SLOT_MINUTES));
+            }
+        }
+    }
+
+    @Test
+    void validateRejectsOverlappingMatchesOfTheSamePlayer() {
+        List<Player> players = buildPlayers(6);
+        Pair pairA = buildPair(players.get(0), players.get(1));
+        Pair pairB = buildPair(players.get(2), players.get(3));
+        Pair pairC = buildPair(players.get(0), players.get(4));
+        Pair pairD = buildPair(players.get(5), players.get(3));
+
+        Match first = buildMatch(pairA, pairB, START);
+        Match overlapping = buildMatch(pairC, pairD, START.plusMinutes(SLOT_MINUTES - 1));
+
+        assertThatThrownBy(() -> scheduler.validate(List.of(first, overlapping), SLOT_MINUTES))
+                .isInstanceOf(IllegalStateException.class);
+
+        // Un partido que empieza justo cuando termina el anterior no se superpone
+        overlapping.setScheduledDate(START.plusMinutes(SLOT_MINUTES));
+        assertThat(scheduler.hasPlayerOverlap(List.of(first, overlapping), SLOT_MINUTES)).isFalse();
+    }
+
+    private Map<LocalDateTime, List<Match>> bySlot(List<Match> matches) {
+        return matches.stream().collect(Collectors.groupingBy(Match::getScheduledDate, TreeMap::new, Collectors.toList()));
+    }
+
+    // Todas las parejas posibles entre los jugadores y todos los cruces entre parejas sin jugadores en común
+    private List<Match> matchesWithSharedPlayers(int playerCount) {
+        List<Player> players = buildPlayers(playerCount);
+        List<Pair> pairs = new ArrayList<>();
+
+        for (int i = 0; i < playerCount; i++) {
+            for (int j = i + 1; j < playerCount; j++) {
+                pairs.add(buildPair(players.get(i), players.get(j)));
+            }
+        }
+
+        List<Match> matches = new ArrayList<>();
+        for (int i = 0; i < pairs.size(); i++) {
+            for (int j = i + 1; j < pairs.size(); j++) {
+                Match match = buildMatch(pairs.get(i), pairs.get(j), null);
+
+                if (new HashSet<>(players(match)).size() == 4) {
+                    matches.add(match);
+                }
+            }
+        }
+        return matches;
+    }
+
+    private List<UUID> players(Match match) {
+        return List.of(match.getPair1().getPlayer1().getId(), match.getPair1().getPlayer2().getId(),
+                match.getPair2().getPlayer1().getId(), match.getPair2().getPlayer2().getId());
+    }
+
+    private List<Player> buildPlayers(int count) {
+        List<Player> players = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            players.add(Player.builder().id(UUID.randomUUID()).name("Player " + i).build());
+        }
+        return players;
+    }
+
+    private Pair buildPair(Player player1, Player player2) {
+        return Pair.builder()
+                .id(UUID.randomUUID())
+                .player1(player1)
+                .player2(player2)
+                .build();
+    }
+
+    private Match buildMatch(Pair pair1, Pair pair2, LocalDateTime scheduledDate) {
+        return Match.builder()
+                .pair1(pair1)
+                .pair2(pair2)
+                .status(MatchStatus.PENDING)
+                .scheduledDate(scheduledDate)
+                .build();
+    }
+}
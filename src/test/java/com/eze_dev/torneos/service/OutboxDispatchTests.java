@@ -0,0 +1,184 @@
+package com.eze_dev.torneos.service;
+
+import com.eze_dev.torneos.dto.update.MatchResultUpdateDto;
+import com.eze_dev.torneos.model.Match;
+import com.eze_dev.torneos.model.OutboxEvent;
+import com.eze_dev.torneos.model.Pair;
+import com.eze_dev.torneos.model.Player;
+import com.eze_dev.torneos.model.PlayerRankingPointsId;
+import com.eze_dev.torneos.model.Tournament;
+import com.eze_dev.torneos.repository.*;
+import com.eze_dev.torneos.service.interfaces.IMatchService;
+import com.eze_dev.torneos.service.interfaces.IOutboxService;
+import com.eze_dev.torneos.types.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class OutboxDispatchTests {
+
+    private static final int PAIRS = 4;
+
+    @Autowired
+    private IMatchService matchService;
+
+    @Autowired
+    private IOutboxService outboxService;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private PlayerRankingPointsRepository playerRankingPointsRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private PairRepository pairRepository;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    private LocalDateTime createdAt;
+    private UUID tournamentId;
+    private UUID winnerId;
+    private List<UUID> matchIds;
+
+    @BeforeEach
+    void setUp() {
+        createdAt = LocalDateTime.now();
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        List<Pair> pairs = new ArrayList<>();
+
+        for (int i = 0; i < PAIRS; i++) {
+            Player player1 = playerRepository.save(buildPlayer(suffix + "a" + i));
+            Player player2 = playerRepository.save(buildPlayer(suffix + "b" + i));
+
+            pairs.add(pairRepository.save(Pair.builder()
+                    .player1(player1)
+                    .player2(player2)
+                    .teamName("Outbox " + suffix + "-" + i)
+                    .build()));
+        }
+
+        Tournament tournament = Tournament.builder()
+                .name("Outbox " + suffix)
+                .startDate(createdAt)
+                .winningMatchRule(WinningMatchRuleType.ONE_SET_TO_6)
+                .tournamentType(TournamentType.QUADRANGULAR)
+                .categoryType(CategoryType.FIRST)
+                .genderType(GenderType.MASCULINE)
+                .status(TournamentStatus.IN_PROGRESS)
+                .pairs(new LinkedHashSet<>(pairs))
+                .build();
+
+        for (int i = 0; i < PAIRS; i += 2) {
+            tournament.getMatches().add(Match.builder()
+                    .tournament(tournament)
+                    .pair1(pairs.get(i))
+                    .pair2(pairs.get(i + 1))
+                    .scheduledDate(createdAt)
+                    .status(MatchStatus.PENDING)
+                    .build());
+        }
+
+        Tournament saved = tournamentRepository.save(tournament);
+        tournamentId = saved.getId();
+        winnerId = pairs.get(0).getPlayer1().getId();
+        matchIds = saved.getMatches().stream().map(Match::getId).toList();
+    }
+
+    @Test
+    void resultsFinalizeTheTournamentOnlyWhenTheOutboxIsDispatched() {
+        matchIds.forEach(matchId -> matchService.updateMatchResult(tournamentId, matchId, new MatchResultUpdateDto(6, 2)));
+
+        // El request sólo deja los eventos escritos; el torneo sigue en curso hasta el despacho
+        assertThat(eventTypes()).containsExactly(OutboxEventType.MATCH_RESULTS_RECORDED, OutboxEventType.MATCH_RESULTS_RECORDED);
+        assertThat(tournamentStatus()).isEqualTo(TournamentStatus.IN_PROGRESS);
+
+        outboxService.dispatchPending();
+        outboxService.dispatchPending();
+
+        assertThat(tournamentStatus()).isEqualTo(TournamentStatus.FINISHED);
+        assertThat(eventTypes()).containsExactly(OutboxEventType.MATCH_RESULTS_RECORDED,
+                OutboxEventType.MATCH_RESULTS_RECORDED, OutboxEventType.TOURNAMENT_FINISHED);
+        assertThat(events()).allMatch(event -> event.getDispatchedAt() != null);
+
+        int points = winnerPoints();
+        assertThat(points).isPositive();
+
+        // Un replay vuelve a entregar los tres eventos sin otorgar los puntos otra vez
+        assertThat(outboxService.replay(createdAt, tournamentId)).isEqualTo(3);
+        outboxService.dispatchPending();
+
+        assertThat(events()).allMatch(event -> event.getDispatchedAt() != null);
+        assertThat(winnerPoints()).isEqualTo(points);
+    }
+
+    @Test
+    void eventsClaimedByAnotherDispatcherWaitUntilTheClaimExpires() {
+        matchIds.forEach(matchId -> matchService.updateMatchResult(tournamentId, matchId, new MatchResultUpdateDto(6, 2)));
+        List<UUID> eventIds = events().stream().map(OutboxEvent::getId).toList();
+        LocalDateTime now = LocalDateTime.now();
+
+        // Otra instancia tomó el lote: este despachador no lo entrega mientras el reclamo esté vigente
+        assertThat(outboxEventRepository.claim(eventIds, "other-dispatcher", now.plusMinutes(1), now)).isEqualTo(2);
+        assertThat(outboxEventRepository.claim(eventIds, "late-dispatcher", now.plusMinutes(1), now)).isZero();
+        outboxService.dispatchPending();
+
+        assertThat(events()).allMatch(event -> event.getDispatchedAt() == null);
+        assertThat(tournamentStatus()).isEqualTo(TournamentStatus.IN_PROGRESS);
+
+        // Si esa instancia se cae, al vencer el reclamo los eventos se despachan igual
+        outboxEventRepository.claim(eventIds, "other-dispatcher", now.minusSeconds(1), now.plusMinutes(2));
+        outboxService.dispatchPending();
+        outboxService.dispatchPending();
+
+        assertThat(tournamentStatus()).isEqualTo(TournamentStatus.FINISHED);
+        assertThat(events()).allMatch(event -> event.getDispatchedAt() != null);
+    }
+
+    private List<OutboxEvent> events() {
+        return outboxEventRepository.findAll().stream()
+                .filter(event -> event.getTournamentId().equals(tournamentId))
+                .sorted(Comparator.comparing(OutboxEvent::getId))
+                .toList();
+    }
+
+    private List<OutboxEventType> eventTypes() {
+        return events().stream().map(OutboxEvent::getEventType).toList();
+    }
+
+    private TournamentStatus tournamentStatus() {
+        return tournamentRepository.findById(tournamentId).orElseThrow().getStatus();
+    }
+
+    private int winnerPoints() {
+        return playerRankingPointsRepository.findById(
+                        new PlayerRankingPointsId(winnerId, CategoryType.FIRST, GenderType.MASCULINE))
+                .orElseThrow()
+                .getTotalPoints();
+    }
+
+    private Player buildPlayer(String dni) {
+        return Player.builder()
+                .name("Name")
+                .lastName("Last")
+                .genderType(GenderType.MASCULINE)
+                .dni(dni)
+                .phoneNumber("12345678")
+                .build();
+    }
+}
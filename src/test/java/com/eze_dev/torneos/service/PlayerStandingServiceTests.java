@@ -0,0 +1,362 @@
+package com.eze_dev.torneos.service;
+
+import com.eze_dev.torneos.dto.response.CursorPaginatedResponseDto;
+import com.eze_dev.torneos.dto.response.PlayerRankingResponseDto;
+import com.eze_dev.torneos.dto.update.MatchResultUpdateDto;
+import com.eze_dev.torneos.model.Match;
+import com.eze_dev.torneos.model.Pair;
+import com.eze_dev.torneos.model.Player;
+import com.eze_dev.torneos.model.PlayerStanding;
+import com.eze_dev.torneos.model.Tournament;
+import com.eze_dev.torneos.repository.*;
+import com.eze_dev.torneos.service.interfaces.IMatchService;
+import com.eze_dev.torneos.service.interfaces.IOutboxService;
+import com.eze_dev.torneos.service.interfaces.IPlayerStandingService;
+import com.eze_dev.torneos.service.interfaces.ITournamentService;
+import com.eze_dev.torneos.types.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class PlayerStandingServiceTests {
+
+    private static final int PAIRS = 4;
+    private static final int CONCURRENT_RESULTS = 8;
+
+    @Autowired
+    private IPlayerStandingService playerStandingService;
+
+    @Autowired
+    private IMatchService matchService;
+
+    @Autowired
+    private ITournamentService tournamentService;
+
+    @Autowired
+    private IOutboxService outboxService;
+
+    @Autowired
+    private PlayerStandingRepository playerStandingRepository;
+
+    @Autowired
+    private PlayerRankingPointsRepository playerRankingPointsRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private PairRepository pairRepository;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private LocalDateTime createdAt;
+    private List<Pair> pairs;
+    private UUID tournamentId;
+    private List<UUID> matchIds;
+
+    @BeforeEach
+    void setUp() {
+        createdAt = LocalDateTime.now();
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        pairs = new ArrayList<>();
+
+        for (int i = 0; i < PAIRS; i++) {
+            pairs.add(pairRepository.save(Pair.builder()
+                    .player1(playerRepository.save(buildPlayer(suffix + "a" + i)))
+                    .player2(playerRepository.save(buildPlayer(suffix + "b" + i)))
+                    .teamName("Standings " + suffix + "-" + i)
+                    .build()));
+        }
+
+        Tournament tournament = Tournament.builder()
+                .name("Standings " + suffix)
+                .startDate(LocalDateTime.now())
+                .winningMatchRule(WinningMatchRuleType.ONE_SET_TO_6)
+                .tournamentType(TournamentType.QUADRANGULAR)
+                .categoryType(CategoryType.FIRST)
+                .genderType(GenderType.MASCULINE)
+                .status(TournamentStatus.IN_PROGRESS)
+                .pairs(new LinkedHashSet<>(pairs))
+                .build();
+
+        for (int i = 0; i < PAIRS; i += 2) {
+            tournament.getMatches().add(Match.builder()
+                    .tournament(tournament)
+                    .pair1(pairs.get(i))
+                    .pair2(pairs.get(i + 1))
+                    .scheduledDate(LocalDateTime.now())
+                    .status(MatchStatus.PENDING)
+                    .build());
+        }
+
+        Tournament saved = tournamentRepository.save(tournament);
+        tournamentId = saved.getId();
+        matchIds = saved.getMatches().stream().map(Match::getId).toList();
+    }
+
+    @Test
+    void resultCorrectionAndTournamentDeletionApplyTheirDeltas() {
+        UUID winner = pairs.get(0).getPlayer1().getId();
+        UUID loser = pairs.get(1).getPlayer2().getId();
+
+        matchService.updateMatchResult(tournamentId, matchIds.get(0), new MatchResultUpdateDto(6, 2));
+
+        assertStanding(winner, 1, 1, 0, 6, 2);
+        assertStanding(loser, 1, 0, 1, 2, 6);
+
+        // La corrección descuenta el resultado anterior antes de sumar el nuevo
+        matchService.updateMatchResult(tournamentId, matchIds.get(0), new MatchResultUpdateDto(3, 6));
+
+        assertStanding(winner, 1, 0, 1, 3, 6);
+        assertStanding(loser, 1, 1, 0, 6, 3);
+
+        matchService.updateMatchResult(tournamentId, matchIds.get(1), new MatchResultUpdateDto(6, 4));
+        tournamentService.delete(tournamentId);
+
+        // Borrar el torneo revierte todos sus partidos completados
+        for (Pair pair : pairs) {
+            assertStanding(pair.getPlayer1().getId(), 0, 0, 0, 0, 0);
+            assertStanding(pair.getPlayer2().getId(), 0, 0, 0, 0, 0);
+        }
+    }
+
+    @Test
+    void concurrentFirstResultsOfTheSamePlayerAreAllCounted() throws Exception {
+        Match match = Match.builder()
+                .pair1(pairs.get(0))
+                .pair2(pairs.get(1))
+                .pair1Score(6)
+                .pair2Score(1)
+                .status(MatchStatus.COMPLETED)
+                .build();
+
+        // Sin filas previas, todos los hilos intentan crear la misma fila a la vez
+        CyclicBarrier barrier = new CyclicBarrier(CONCURRENT_RESULTS);
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_RESULTS);
+
+        try {
+            List<CompletableFuture<Void>> results = new ArrayList<>();
+
+            for (int i = 0; i < CONCURRENT_RESULTS; i++) {
+                results.add(CompletableFuture.runAsync(() -> {
+                    try {
+                        barrier.await();
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                    playerStandingService.recordMatchResult(match);
+                }, executor));
+            }
+
+            CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).join();
+        } finally {
+            executor.shutdown();
+        }
+
+        assertStanding(pairs.get(0).getPlayer1().getId(), CONCURRENT_RESULTS, CONCURRENT_RESULTS, 0,
+                6 * CONCURRENT_RESULTS, CONCURRENT_RESULTS);
+        assertStanding(pairs.get(1).getPlayer1().getId(), CONCURRENT_RESULTS, 0, CONCURRENT_RESULTS,
+                CONCURRENT_RESULTS, 6 * CONCURRENT_RESULTS);
+    }
+
+    @Test
+    void finishingCorrectingAndReplayingKeepTheRankingLedgerInSync() {
+        matchIds.forEach(matchId -> matchService.updateMatchResult(tournamentId, matchId, new MatchResultUpdateDto(6, 2)));
+        outboxService.dispatchPending();
+        outboxService.dispatchPending();
+
+        assertThat(tournamentRepository.findById(tournamentId).orElseThrow().getStatus()).isEqualTo(TournamentStatus.FINISHED);
+        Map<UUID, String> finished = assertLedgerMatchesRebuild();
+
+        // Corregir un partido del torneo finalizado revierte los puntos otorgados y vuelve a sumarlos
+        matchService.updateMatchResult(tournamentId, matchIds.get(0), new MatchResultUpdateDto(2, 6));
+        Map<UUID, String> corrected = assertLedgerMatchesRebuild();
+
+        assertThat(corrected).isNotEqualTo(finished);
+
+        // Volver a entregar los eventos de finalización no otorga los puntos dos veces
+        outboxService.replay(createdAt, tournamentId);
+        outboxService.dispatchPending();
+
+        assertThat(assertLedgerMatchesRebuild()).isEqualTo(corrected);
+
+        tournamentService.delete(tournamentId);
+
+        assertThat(ledger()).allSatisfy((playerId, entry) -> assertThat(entry).isEqualTo("0/0"));
+    }
+
+    @Test
+    void parallelRebuildMatchesTheIncrementalLedgerAcrossTournamentTypes() {
+        // Las mismas parejas terminan un torneo de cada tipo, así cada jugador suma puntos de varias estrategias
+        for (TournamentType type : List.of(TournamentType.QUADRANGULAR, TournamentType.KNOCKOUT, TournamentType.ROUND_ROBIN)) {
+            playUntilFinished(startTournament(type));
+        }
+
+        Map<UUID, String> incremental = assertLedgerMatchesRebuild();
+
+        assertThat(incremental.values()).allSatisfy(entry -> assertThat(entry).endsWith("/3"));
+        assertThat(Set.copyOf(incremental.values())).hasSizeGreaterThan(1);
+    }
+
+    @Test
+    void cursorPagesWalkTiedRankingsWithoutGapsOrDuplicates() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        int[] femininePoints = {50, 30, 30, 20, 30, 10, 10};
+        List<UUID> playerIds = new ArrayList<>();
+
+        for (int i = 0; i < femininePoints.length; i++) {
+            playerIds.add(playerRepository.save(buildPlayer(suffix + "r" + i)).getId());
+        }
+
+        // Sólo estos jugadores tienen puntos en octava categoría; el cuarto empata en 30 al sumar el mixto
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < femininePoints.length; i++) {
+                playerRankingPointsRepository.applyDelta(playerIds.get(i), CategoryType.EIGHTH.name(), GenderType.FEMININE.name(),
+                        femininePoints[i], 1);
+            }
+            playerRankingPointsRepository.applyDelta(playerIds.get(3), CategoryType.EIGHTH.name(), GenderType.MIXED.name(), 10, 1);
+        });
+
+        List<PlayerRankingResponseDto> byCategory = scroll(GenderType.FEMININE, 2);
+        assertThat(byCategory).extracting(PlayerRankingResponseDto::getTotalPoints).containsExactly(50, 30, 30, 30, 20, 10, 10);
+        assertThat(byCategory).extracting(PlayerRankingResponseDto::getId)
+                .containsExactlyElementsOf(playerRankingPointsRepository.findCategoryRankings(
+                        CategoryType.EIGHTH, GenderType.FEMININE, Limit.unlimited()).stream().map(PlayerRankingResponseDto::getId).toList());
+
+        List<PlayerRankingResponseDto> allGenders = scroll(null, 2);
+        assertThat(allGenders).extracting(PlayerRankingResponseDto::getTotalPoints).containsExactly(50, 30, 30, 30, 30, 10, 10);
+        assertThat(allGenders).extracting(PlayerRankingResponseDto::getId)
+                .doesNotHaveDuplicates()
+                .containsExactlyElementsOf(playerRankingPointsRepository.findRankings(
+                        CategoryType.EIGHTH, null, Limit.unlimited()).stream().map(PlayerRankingResponseDto::getId).toList());
+    }
+
+    private UUID startTournament(TournamentType type) {
+        UUID id = tournamentRepository.save(Tournament.builder()
+                .name(type + " " + UUID.randomUUID())
+                .startDate(LocalDateTime.now())
+                .winningMatchRule(WinningMatchRuleType.ONE_SET_TO_6)
+                .tournamentType(type)
+                .categoryType(CategoryType.FIRST)
+                .genderType(GenderType.MASCULINE)
+                .status(TournamentStatus.CREATED)
+                .pairs(new LinkedHashSet<>(pairs))
+                .build()).getId();
+
+        tournamentService.startTournament(id);
+        return id;
+    }
+
+    // Juega los partidos pendientes con marcadores distintos hasta que no quede ninguno; en eliminación directa
+    // cada ronda aparece recién cuando se decide la anterior
+    private void playUntilFinished(UUID id) {
+        int played = 0;
+        List<Match> pending;
+
+        while (!(pending = pendingMatches(id)).isEmpty()) {
+            for (Match match : pending) {
+                int loserScore = played % 5;
+                MatchResultUpdateDto result = played % 2 == 0
+                        ? new MatchResultUpdateDto(6, loserScore)
+                        : new MatchResultUpdateDto(loserScore, 6);
+
+                matchService.updateMatchResult(id, match.getId(), result);
+                played++;
+            }
+        }
+
+        // El cierre del torneo lo dispara el evento del último partido
+        outboxService.dispatchPending();
+        outboxService.dispatchPending();
+        assertThat(tournamentRepository.findById(id).orElseThrow().getStatus()).isEqualTo(TournamentStatus.FINISHED);
+    }
+
+    private List<Match> pendingMatches(UUID id) {
+        return matchRepository.findByTournamentId(id).stream()
+                .filter(match -> match.getStatus() == MatchStatus.PENDING)
+                .toList();
+    }
+
+    private List<PlayerRankingResponseDto> scroll(GenderType gender, int size) {
+        List<PlayerRankingResponseDto> all = new ArrayList<>();
+        String cursor = null;
+
+        do {
+            CursorPaginatedResponseDto<PlayerRankingResponseDto> page =
+                    playerStandingService.getPlayerRankingsAfter(CategoryType.EIGHTH, gender, cursor, size);
+            all.addAll(page.getItems());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        return all;
+    }
+
+    // Compara el ledger incremental con el que arma el rebuild completo desde los torneos finalizados
+    private Map<UUID, String> assertLedgerMatchesRebuild() {
+        Map<UUID, String> incremental = ledger();
+        playerStandingService.rebuildPlayerRankings();
+
+        assertThat(incremental).hasSize(PAIRS * 2);
+        assertThat(ledger()).isEqualTo(incremental);
+
+        return incremental;
+    }
+
+    private Map<UUID, String> ledger() {
+        List<UUID> playerIds = pairs.stream()
+                .flatMap(pair -> Stream.of(pair.getPlayer1().getId(), pair.getPlayer2().getId()))
+                .toList();
+
+        return playerRankingPointsRepository.findByCategoryAndGenderAndPlayerIds(CategoryType.FIRST, GenderType.MASCULINE, playerIds)
+                .stream()
+                .collect(Collectors.toMap(ranking -> ranking.getId().getPlayerId(),
+                        ranking -> ranking.getTotalPoints() + "/" + ranking.getTournamentsPlayed()));
+    }
+
+    private void assertStanding(UUID playerId, int played, int won, int lost, int gamesWon, int gamesLost) {
+        PlayerStanding standing = playerStandingRepository.findById(playerId).orElseThrow();
+
+        assertThat(standing.getMatchesPlayed()).isEqualTo(played);
+        assertThat(standing.getMatchesWon()).isEqualTo(won);
+        assertThat(standing.getMatchesLost()).isEqualTo(lost);
+        assertThat(standing.getGamesWon()).isEqualTo(gamesWon);
+        assertThat(standing.getGamesLost()).isEqualTo(gamesLost);
+    }
+
+    private Player buildPlayer(String dni) {
+        return Player.builder()
+                .name("Name")
+                .lastName("Last")
+                .genderType(GenderType.MASCULINE)
+                .dni(dni)
+                .phoneNumber("12345678")
+                .build();
+    }
+}
@@ -0,0 +1,100 @@
+package com.eze_dev.torneos.service;
+
+import com.eze_dev.torneos.model.Pair;
+import com.eze_dev.torneos.model.Player;
+import com.eze_dev.torneos.model.Tournament;
+import com.eze_dev.torneos.repository.PairRepository;
+import com.eze_dev.torneos.repository.PlayerRepository;
+import com.eze_dev.torneos.repository.TournamentRepository;
+import com.eze_dev.torneos.service.interfaces.ITournamentService;
+import com.eze_dev.torneos.types.*;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("prod")
+class TournamentServiceBatchInsertTests {
+
+    private static final int PAIRS = 64;
+    private static final int ROUND_ROBIN_MATCHES = PAIRS * (PAIRS - 1) / 2;
+
+    @Autowired
+    private ITournamentService tournamentService;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private PairRepository pairRepository;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void startingRoundRobinInsertsMatchesInJdbcBatches() {
+        UUID tournamentId = createRoundRobinTournament();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        tournamentService.startTournament(tournamentId);
+
+        // Con batch_size=50 los 2016 INSERT se envían en 41 lotes, cada uno con un único PreparedStatement.
+        // El INSERT restante es el evento TOURNAMENT_STARTED del outbox
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(ROUND_ROBIN_MATCHES + 1);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(ROUND_ROBIN_MATCHES / 25);
+    }
+
+    private UUID createRoundRobinTournament() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        List<Pair> pairs = new ArrayList<>();
+
+        for (int i = 0; i < PAIRS; i++) {
+            Player player1 = playerRepository.save(buildPlayer(suffix + "a" + i));
+            Player player2 = playerRepository.save(buildPlayer(suffix + "b" + i));
+
+            pairs.add(pairRepository.save(Pair.builder()
+                    .player1(player1)
+                    .player2(player2)
+                    .teamName("Team " + suffix + "-" + i)
+                    .build()));
+        }
+
+        return tournamentRepository.save(Tournament.builder()
+                .name("Tournament " + suffix)
+                .startDate(LocalDateTime.now())
+                .winningMatchRule(WinningMatchRuleType.ONE_SET_TO_6)
+                .tournamentType(TournamentType.ROUND_ROBIN)
+                .categoryType(CategoryType.FIRST)
+                .genderType(GenderType.MASCULINE)
+                .status(TournamentStatus.CREATED)
+                .pairs(new LinkedHashSet<>(pairs))
+                .build()).getId();
+    }
+
+    private Player buildPlayer(String dni) {
+        return Player.builder()
+                .name("Name")
+                .lastName("Last")
+                .genderType(GenderType.MASCULINE)
+                .dni(dni)
+                .phoneNumber("12345678")
+                .build();
+    }
+}
@@ -0,0 +1,146 @@
+package com.eze_dev.torneos.service;
+
+import com.eze_dev.torneos.dto.update.MatchResultUpdateDto;
+import com.eze_dev.torneos.dto.update.MatchScheduleUpdateDto;
+import com.eze_dev.torneos.model.Match;
+import com.eze_dev.torneos.model.Pair;
+import com.eze_dev.torneos.model.Player;
+import com.eze_dev.torneos.model.Tournament;
+import com.eze_dev.torneos.repository.MatchRepository;
+import com.eze_dev.torneos.repository.PairRepository;
+import com.eze_dev.torneos.repository.PlayerRepository;
+import com.eze_dev.torneos.repository.TournamentRepository;
+import com.eze_dev.torneos.service.interfaces.IMatchService;
+import com.eze_dev.torneos.service.interfaces.ITournamentService;
+import com.eze_dev.torneos.types.*;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class TournamentServiceRescheduleTests {
+
+    private static final int PAIRS = 6;
+    private static final int COURTS = 2;
+    private static final int SLOT_MINUTES = 45;
+
+    @Autowired
+    private ITournamentService tournamentService;
+
+    @Autowired
+    private IMatchService matchService;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private PairRepository pairRepository;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @Test
+    void pendingMatchesAreRepackedOnTheRequestedCourtsWithoutPlayerOverlaps() {
+        UUID tournamentId = startRoundRobin();
+
+        Match played = matchRepository.findByTournamentId(tournamentId).get(0);
+        matchService.updateMatchResult(tournamentId, played.getId(), new MatchResultUpdateDto(6, 3));
+
+        LocalDateTime startTime = LocalDateTime.of(2030, 5, 10, 10, 0);
+        tournamentService.rescheduleMatches(tournamentId, MatchScheduleUpdateDto.builder()
+                .courts(COURTS)
+                .slotMinutes(SLOT_MINUTES)
+                .startTime(startTime)
+                .build());
+
+        List<Match> pending = matchRepository.findByTournamentIdAndStatusWithPlayers(tournamentId, MatchStatus.PENDING);
+        assertThat(pending).hasSize(PAIRS * (PAIRS - 1) / 2 - 1);
+
+        Map<LocalDateTime, List<Match>> bySlot = pending.stream()
+                .collect(Collectors.groupingBy(Match::getScheduledDate, TreeMap::new, Collectors.toList()));
+
+        // Catorce partidos en dos canchas necesitan al menos siete turnos de 45 minutos desde la hora pedida
+        assertThat(bySlot).hasSizeGreaterThanOrEqualTo(7);
+        assertThat(bySlot.keySet().iterator().next()).isEqualTo(startTime);
+        assertThat(bySlot.keySet()).allMatch(slot -> Duration.between(startTime, slot).toMinutes() % SLOT_MINUTES == 0);
+
+        for (List<Match> slot : bySlot.values()) {
+            assertThat(slot.size()).isLessThanOrEqualTo(COURTS);
+            assertThat(slot).extracting(Match::getCourt).doesNotHaveDuplicates().allMatch(court -> court >= 1 && court <= COURTS);
+            assertThat(slot.stream().flatMap(this::players).toList()).doesNotHaveDuplicates();
+        }
+
+        // El partido ya jugado conserva su horario original
+        Match reloaded = matchRepository.findById(played.getId()).orElseThrow();
+        assertThat(reloaded.getScheduledDate()).isEqualTo(played.getScheduledDate());
+        assertThat(reloaded.getCourt()).isEqualTo(played.getCourt());
+    }
+
+    @Test
+    void onlyTournamentsInProgressCanBeRescheduled() {
+        UUID tournamentId = createRoundRobin();
+
+        assertThatThrownBy(() -> tournamentService.rescheduleMatches(tournamentId, MatchScheduleUpdateDto.builder()
+                .courts(COURTS)
+                .slotMinutes(SLOT_MINUTES)
+                .build()))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private Stream<UUID> players(Match match) {
+        return Stream.of(match.getPair1().getPlayer1().getId(), match.getPair1().getPlayer2().getId(),
+                match.getPair2().getPlayer1().getId(), match.getPair2().getPlayer2().getId());
+    }
+
+    private UUID startRoundRobin() {
+        UUID id = createRoundRobin();
+        tournamentService.startTournament(id);
+        return id;
+    }
+
+    private UUID createRoundRobin() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        List<Pair> pairs = new ArrayList<>();
+
+        for (int i = 0; i < PAIRS; i++) {
+            pairs.add(pairRepository.save(Pair.builder()
+                    .player1(playerRepository.save(buildPlayer(suffix + "a" + i)))
+                    .player2(playerRepository.save(buildPlayer(suffix + "b" + i)))
+                    .teamName("Reschedule " + suffix + "-" + i)
+                    .build()));
+        }
+
+        return tournamentRepository.save(Tournament.builder()
+                .name("Reschedule " + suffix)
+                .startDate(LocalDateTime.now())
+                .winningMatchRule(WinningMatchRuleType.ONE_SET_TO_6)
+                .tournamentType(TournamentType.ROUND_ROBIN)
+                .categoryType(CategoryType.FIRST)
+                .genderType(GenderType.MASCULINE)
+                .status(TournamentStatus.CREATED)
+                .pairs(new LinkedHashSet<>(pairs))
+                .build()).getId();
+    }
+
+    private Player buildPlayer(String dni) {
+        return Player.builder()
+                .name("Name")
+                .lastName("Last")
+                .genderType(GenderType.MASCULINE)
+                .dni(dni)
+                .phoneNumber("12345678")
+                .build();
+    }
+}
@@ -0,0 +1,212 @@
+package com.eze_dev.torneos.strategy.tournament;
+
+import com.eze_dev.torneos.dto.update.MatchResultUpdateDto;
+import com.eze_dev.torneos.model.Match;
+import com.eze_dev.torneos.model.Pair;
+import com.eze_dev.torneos.model.Player;
+import com.eze_dev.torneos.model.Tournament;
+import com.eze_dev.torneos.repository.MatchRepository;
+import com.eze_dev.torneos.repository.PairRepository;
+import com.eze_dev.torneos.repository.PlayerRankingPointsRepository;
+import com.eze_dev.torneos.repository.PlayerRepository;
+import com.eze_dev.torneos.repository.TournamentRepository;
+import com.eze_dev.torneos.service.interfaces.IMatchService;
+import com.eze_dev.torneos.service.interfaces.ITournamentService;
+import com.eze_dev.torneos.types.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class GroupStageKnockoutStrategyTests {
+
+    private static final int PAIRS = 8;
+
+    @Autowired
+    private ITournamentService tournamentService;
+
+    @Autowired
+    private IMatchService matchService;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private PairRepository pairRepository;
+
+    @Autowired
+    private PlayerRankingPointsRepository playerRankingPointsRepository;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private List<Pair> seeds;
+    private UUID tournamentId;
+
+    @BeforeEach
+    void setUp() {
+        seeds = buildSeededPairs();
+        tournamentId = startGroupStage();
+    }
+
+    @Test
+    void seedsAreDistributedInASnake() {
+        // Dos grupos de cuatro: 1 y 2 encabezan, 3 vuelve al grupo 2, 4 al grupo 1, y así sucesivamente
+        assertThat(groupPairs(1)).containsExactlyInAnyOrder(seedIds(0, 3, 4, 7));
+        assertThat(groupPairs(2)).containsExactlyInAnyOrder(seedIds(1, 2, 5, 6));
+        assertThat(groupMatches()).hasSize(12);
+    }
+
+    @Test
+    void playoffIsBuiltOnceTheLastGroupMatchIsPlayed() {
+        List<Match> groupMatches = groupMatches();
+
+        for (Match match : groupMatches.subList(0, groupMatches.size() - 1)) {
+            reportBetterSeedWins(match);
+        }
+        assertThat(bracketMatches()).isEmpty();
+
+        reportBetterSeedWins(groupMatches.get(groupMatches.size() - 1));
+
+        // Primero los ganadores de grupo y después los segundos, cada puesto ordenado por victorias y diferencia:
+        // el grupo 2 gana 6-1 y el grupo 1 6-4, así que el orden es 2, 1, 3, 4 y el cuadro cruza 2-4 y 1-3
+        List<Match> playoff = bracketMatches();
+        assertThat(playoff).hasSize(2);
+        assertPairs(playoff.get(0), seeds.get(1), seeds.get(3));
+        assertPairs(playoff.get(1), seeds.get(0), seeds.get(2));
+    }
+
+    @Test
+    void groupResultsAreLockedOnceThePlayoffStarts() {
+        List<Match> groupMatches = groupMatches();
+        groupMatches.forEach(this::reportBetterSeedWins);
+
+        Match groupMatch = groupMatches.get(0);
+        assertThatThrownBy(() -> matchService.updateMatchResult(tournamentId, groupMatch.getId(), new MatchResultUpdateDto(0, 6)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Group results cannot change once the playoff has started.");
+
+        assertThat(matchRepository.findById(groupMatch.getId()).orElseThrow().getPair2Score()).isNotEqualTo(6);
+    }
+
+    private void reportBetterSeedWins(Match match) {
+        int seed1 = seedOf(match.getPair1());
+        int seed2 = seedOf(match.getPair2());
+        int loserScore = match.getGroupNumber() == 1 ? 4 : 1;
+
+        MatchResultUpdateDto result = seed1 < seed2
+                ? new MatchResultUpdateDto(6, loserScore)
+                : new MatchResultUpdateDto(loserScore, 6);
+
+        matchService.updateMatchResult(tournamentId, match.getId(), result);
+    }
+
+    private void assertPairs(Match match, Pair pair1, Pair pair2) {
+        assertThat(match.getPair1().getId()).isEqualTo(pair1.getId());
+        assertThat(match.getPair2().getId()).isEqualTo(pair2.getId());
+    }
+
+    private int seedOf(Pair pair) {
+        for (int i = 0; i < seeds.size(); i++) {
+            if (seeds.get(i).getId().equals(pair.getId())) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("Pair is not seeded");
+    }
+
+    private UUID[] seedIds(int... indexes) {
+        return Arrays.stream(indexes).mapToObj(index -> seeds.get(index).getId()).toArray(UUID[]::new);
+    }
+
+    private Set<UUID> groupPairs(int groupNumber) {
+        Set<UUID> pairIds = new HashSet<>();
+
+        for (Match match : groupMatches()) {
+            if (match.getGroupNumber() == groupNumber) {
+                pairIds.add(match.getPair1().getId());
+                pairIds.add(match.getPair2().getId());
+            }
+        }
+        return pairIds;
+    }
+
+    private List<Match> groupMatches() {
+        return matchRepository.findByTournamentId(tournamentId).stream()
+                .filter(match -> match.getGroupNumber() != null)
+                .sorted(Comparator.comparing(Match::getScheduledDate).thenComparing(Match::getCourt))
+                .toList();
+    }
+
+    private List<Match> bracketMatches() {
+        return matchRepository.findByTournamentId(tournamentId).stream()
+                .filter(match -> match.getBracketPosition() != null)
+                .sorted(Comparator.comparing(Match::getBracketPosition))
+                .toList();
+    }
+
+    // Devuelve las parejas ordenadas por preclasificación: la primera es la que más puntos de ranking suma
+    private List<Pair> buildSeededPairs() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        List<Pair> seeded = new ArrayList<>();
+
+        for (int i = 0; i < PAIRS; i++) {
+            seeded.add(pairRepository.save(Pair.builder()
+                    .player1(playerRepository.save(buildPlayer(suffix + "a" + i)))
+                    .player2(playerRepository.save(buildPlayer(suffix + "b" + i)))
+                    .teamName("Group " + suffix + "-" + i)
+                    .build()));
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < PAIRS; i++) {
+                playerRankingPointsRepository.applyDelta(seeded.get(i).getPlayer1().getId(), CategoryType.SECOND.name(),
+                        GenderType.MASCULINE.name(), (PAIRS - i) * 10, 1);
+            }
+        });
+        return seeded;
+    }
+
+    private UUID startGroupStage() {
+        List<Pair> shuffled = new ArrayList<>(seeds);
+        Collections.reverse(shuffled);
+
+        UUID id = tournamentRepository.save(Tournament.builder()
+                .name("Groups " + UUID.randomUUID())
+                .startDate(LocalDateTime.now())
+                .winningMatchRule(WinningMatchRuleType.ONE_SET_TO_6)
+                .tournamentType(TournamentType.GROUPS_KNOCKOUT)
+                .categoryType(CategoryType.SECOND)
+                .genderType(GenderType.MASCULINE)
+                .status(TournamentStatus.CREATED)
+                .pairs(new LinkedHashSet<>(shuffled))
+                .build()).getId();
+
+        tournamentService.startTournament(id);
+        return id;
+    }
+
+    private Player buildPlayer(String dni) {
+        return Player.builder()
+                .name("Name")
+                .lastName("Last")
+                .genderType(GenderType.MASCULINE)
+                .dni(dni)
+                .phoneNumber("12345678")
+                .build();
+    }
+}
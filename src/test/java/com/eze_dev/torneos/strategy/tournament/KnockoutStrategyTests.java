@@ -0,0 +1,248 @@
+package com.eze_dev.torneos.strategy.tournament;
+
+import com.eze_dev.torneos.dto.response.PairStandingResponseDto;
+import com.eze_dev.torneos.dto.update.MatchResultUpdateDto;
+import com.eze_dev.torneos.model.Match;
+import com.eze_dev.torneos.model.Pair;
+import com.eze_dev.torneos.model.Player;
+import com.eze_dev.torneos.model.Tournament;
+import com.eze_dev.torneos.repository.MatchRepository;
+import com.eze_dev.torneos.repository.PairRepository;
+import com.eze_dev.torneos.repository.PlayerRankingPointsRepository;
+import com.eze_dev.torneos.repository.PlayerRepository;
+import com.eze_dev.torneos.repository.TournamentRepository;
+import com.eze_dev.torneos.service.interfaces.IMatchService;
+import com.eze_dev.torneos.service.interfaces.ITournamentService;
+import com.eze_dev.torneos.types.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class KnockoutStrategyTests {
+
+    @Autowired
+    private ITournamentService tournamentService;
+
+    @Autowired
+    private IMatchService matchService;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private PairRepository pairRepository;
+
+    @Autowired
+    private PlayerRankingPointsRepository playerRankingPointsRepository;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void bestSeedsGetTheByesAndMeetAsLateAsPossible() {
+        List<Pair> seeds = buildSeededPairs(6);
+        UUID tournamentId = startKnockout(seeds);
+
+        // Cuadro de 8: 1-bye, 4-5, 2-bye, 3-6
+        assertBye(tournamentId, 0, seeds.get(0));
+        assertPairs(tournamentId, 1, 1, seeds.get(3), seeds.get(4));
+        assertBye(tournamentId, 2, seeds.get(1));
+        assertPairs(tournamentId, 1, 3, seeds.get(2), seeds.get(5));
+
+        assertThat(round(tournamentId, 2)).isEmpty();
+    }
+
+    @Test
+    void twoConsecutiveByesCreateTheirNextRoundMatchUpFront() {
+        List<Pair> seeds = buildSeededPairs(5);
+        UUID tournamentId = startKnockout(seeds);
+
+        // Cuadro de 8 con 5 parejas: las posiciones 2 y 3 son byes de los preclasificados 2 y 3
+        assertBye(tournamentId, 0, seeds.get(0));
+        assertPairs(tournamentId, 1, 1, seeds.get(3), seeds.get(4));
+        assertBye(tournamentId, 2, seeds.get(1));
+        assertBye(tournamentId, 3, seeds.get(2));
+
+        assertThat(round(tournamentId, 2)).hasSize(1);
+        assertPairs(tournamentId, 2, 1, seeds.get(1), seeds.get(2));
+    }
+
+    @Test
+    void nextRoundMatchIsCreatedOnceBothFeedersAreDecided() {
+        List<Pair> seeds = buildSeededPairs(4);
+        UUID tournamentId = startKnockout(seeds);
+
+        report(tournamentId, 1, 0, 6, 2);
+        assertThat(round(tournamentId, 2)).isEmpty();
+
+        report(tournamentId, 1, 1, 3, 6);
+        assertPairs(tournamentId, 2, 0, seeds.get(0), seeds.get(2));
+
+        // Corregir una semifinal antes de jugar la final cambia la pareja del sucesor existente
+        report(tournamentId, 1, 0, 2, 6);
+        assertPairs(tournamentId, 2, 0, seeds.get(3), seeds.get(2));
+        assertThat(round(tournamentId, 2)).hasSize(1);
+    }
+
+    @Test
+    void winnerCannotChangeOnceTheNextRoundIsPlayed() {
+        List<Pair> seeds = buildSeededPairs(4);
+        UUID tournamentId = startKnockout(seeds);
+
+        report(tournamentId, 1, 0, 6, 2);
+        report(tournamentId, 1, 1, 6, 2);
+        report(tournamentId, 2, 0, 6, 4);
+
+        assertThatThrownBy(() -> report(tournamentId, 1, 0, 2, 6))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("The winner cannot change once the next round match has been played.");
+
+        // Un resultado que no cambia al ganador sigue permitido
+        report(tournamentId, 1, 0, 6, 3);
+        assertThat(match(tournamentId, 1, 0).getPair2Score()).isEqualTo(3);
+    }
+
+    @Test
+    void standingsFollowTheRoundReachedInTheBracket() {
+        List<Pair> seeds = buildSeededPairs(4);
+        UUID tournamentId = startKnockout(seeds);
+
+        report(tournamentId, 1, 0, 6, 2);
+        report(tournamentId, 1, 1, 6, 0);
+        report(tournamentId, 2, 0, 4, 6);
+
+        List<PairStandingResponseDto> standings = tournamentService.getStandings(tournamentId);
+
+        // El semifinalista que perdió 6-0 tiene peor diferencia que el otro, pero ambos quedan detrás de la final
+        assertThat(standings).extracting(PairStandingResponseDto::getPairId)
+                .startsWith(seeds.get(1).getId(), seeds.get(0).getId());
+        assertThat(standings).extracting(PairStandingResponseDto::getPoints).containsExactly(10, 6, 3, 3);
+        assertThat(standings.get(0).getMatchesPlayed()).isEqualTo(2);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 5, 6, 13})
+    void everyBracketSizeIsPlayedDownToASingleFinal(int pairCount) {
+        List<Pair> seeds = buildSeededPairs(pairCount);
+        UUID tournamentId = startKnockout(seeds);
+
+        int played = 0;
+        List<Match> pending;
+
+        while (!(pending = matchesWithStatus(tournamentId, MatchStatus.PENDING)).isEmpty()) {
+            for (Match match : pending) {
+                matchService.updateMatchResult(tournamentId, match.getId(), new MatchResultUpdateDto(6, played % 5));
+                played++;
+            }
+        }
+
+        // Cada partido jugado elimina a una pareja y los byes no cuentan, así que hay una final y n - 1 partidos
+        int rounds = 32 - Integer.numberOfLeadingZeros(pairCount - 1);
+        assertThat(played).isEqualTo(pairCount - 1);
+        assertThat(round(tournamentId, rounds)).hasSize(1);
+        assertThat(round(tournamentId, rounds + 1)).isEmpty();
+        assertThat(tournamentService.getStandings(tournamentId)).hasSize(pairCount);
+    }
+
+    private void assertBye(UUID tournamentId, int position, Pair pair) {
+        Match bye = match(tournamentId, 1, position);
+
+        assertThat(bye.getStatus()).isEqualTo(MatchStatus.BYE);
+        assertThat(bye.getPair1().getId()).isEqualTo(pair.getId());
+        assertThat(bye.getPair2()).isNull();
+    }
+
+    private void assertPairs(UUID tournamentId, int round, int position, Pair pair1, Pair pair2) {
+        Match match = match(tournamentId, round, position);
+
+        assertThat(match.getPair1().getId()).isEqualTo(pair1.getId());
+        assertThat(match.getPair2().getId()).isEqualTo(pair2.getId());
+    }
+
+    private void report(UUID tournamentId, int round, int position, int pair1Score, int pair2Score) {
+        matchService.updateMatchResult(tournamentId, match(tournamentId, round, position).getId(),
+                new MatchResultUpdateDto(pair1Score, pair2Score));
+    }
+
+    private Match match(UUID tournamentId, int round, int position) {
+        return matchRepository.findByTournamentIdAndRoundAndBracketPosition(tournamentId, round, position).orElseThrow();
+    }
+
+    private List<Match> round(UUID tournamentId, int round) {
+        return matchRepository.findByTournamentId(tournamentId).stream()
+                .filter(match -> match.getRound() == round)
+                .toList();
+    }
+
+    private List<Match> matchesWithStatus(UUID tournamentId, MatchStatus status) {
+        return matchRepository.findByTournamentId(tournamentId).stream()
+                .filter(match -> match.getStatus() == status)
+                .toList();
+    }
+
+    // Devuelve las parejas ordenadas por preclasificación: la primera es la que más puntos de ranking suma
+    private List<Pair> buildSeededPairs(int count) {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        List<Pair> seeds = new ArrayList<>();
+
+        for (int i = 0; i < count; i++) {
+            Pair pair = pairRepository.save(Pair.builder()
+                    .player1(playerRepository.save(buildPlayer(suffix + "a" + i)))
+                    .player2(playerRepository.save(buildPlayer(suffix + "b" + i)))
+                    .teamName("Seed " + suffix + "-" + i)
+                    .build());
+
+            int points = (count - i) * 10;
+            transactionTemplate.executeWithoutResult(status -> playerRankingPointsRepository.applyDelta(
+                    pair.getPlayer1().getId(), CategoryType.FIRST.name(), GenderType.MASCULINE.name(), points, 1));
+            seeds.add(pair);
+        }
+        return seeds;
+    }
+
+    private UUID startKnockout(List<Pair> seeds) {
+        // El orden de alta no tiene que influir en la preclasificación
+        List<Pair> shuffled = new ArrayList<>(seeds);
+        Collections.reverse(shuffled);
+
+        UUID id = tournamentRepository.save(Tournament.builder()
+                .name("Knockout " + UUID.randomUUID())
+                .startDate(LocalDateTime.now())
+                .winningMatchRule(WinningMatchRuleType.ONE_SET_TO_6)
+                .tournamentType(TournamentType.KNOCKOUT)
+                .categoryType(CategoryType.FIRST)
+                .genderType(GenderType.MASCULINE)
+                .status(TournamentStatus.CREATED)
+                .pairs(new LinkedHashSet<>(shuffled))
+                .build()).getId();
+
+        tournamentService.startTournament(id);
+        return id;
+    }
+
+    private Player buildPlayer(String dni) {
+        return Player.builder()
+                .name("Name")
+                .lastName("Last")
+                .genderType(GenderType.MASCULINE)
+                .dni(dni)
+                .phoneNumber("12345678")
+                .build();
+    }
+}
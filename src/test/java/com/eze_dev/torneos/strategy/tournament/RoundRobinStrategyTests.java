@@ -0,0 +1,96 @@
+package com.eze_dev.torneos.strategy.tournament;
+
+import com.eze_dev.torneos.model.Match;
+import com.eze_dev.torneos.model.Pair;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RoundRobinStrategyTests {
+
+    private static final int COURTS = 3;
+    private static final int SLOT_MINUTES = 60;
+
+    private final RoundRobinStrategy strategy = new RoundRobinStrategy(COURTS, SLOT_MINUTES);
+
+    @ParameterizedTest
+    @ValueSource(ints = {3, 4, 5, 6, 7, 8, 11, 16})
+    void everyPairMeetsEveryOtherExactlyOnce(int pairCount) {
+        List<Pair> pairs = buildPairs(pairCount);
+        List<List<Match>> rounds = strategy.buildRounds(null, pairs);
+
+        // Con cantidad impar hace falta una ronda más, en la que descansa cada pareja
+        assertThat(rounds).hasSize(pairCount % 2 == 0 ? pairCount - 1 : pairCount);
+
+        Set<Set<UUID>> matchups = new HashSet<>();
+        Map<UUID, Integer> roundsPlayed = new HashMap<>();
+
+        for (List<Match> round : rounds) {
+            assertThat(round).hasSize(pairCount / 2);
+            assertThat(pairIds(round)).doesNotHaveDuplicates();
+
+            for (Match match : round) {
+                assertThat(matchups.add(Set.of(match.getPair1().getId(), match.getPair2().getId()))).isTrue();
+                roundsPlayed.merge(match.getPair1().getId(), 1, Integer::sum);
+                roundsPlayed.merge(match.getPair2().getId(), 1, Integer::sum);
+            }
+        }
+
+        assertThat(matchups).hasSize(pairCount * (pairCount - 1) / 2);
+        assertThat(roundsPlayed.values()).containsOnly(pairCount - 1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {4, 7, 8, 12})
+    void roundsArePackedAcrossCourtsOneAfterTheOther(int pairCount) {
+        LocalDateTime baseTime = LocalDateTime.of(2025, 3, 1, 9, 0);
+        List<List<Match>> rounds = strategy.buildRounds(null, buildPairs(pairCount));
+
+        LocalDateTime end = strategy.schedule(rounds, baseTime);
+
+        LocalDateTime roundStart = baseTime;
+        for (List<Match> round : rounds) {
+            Map<LocalDateTime, List<Match>> bySlot = round.stream()
+                    .collect(Collectors.groupingBy(Match::getScheduledDate, TreeMap::new, Collectors.toList()));
+            int slotsNeeded = (round.size() + COURTS - 1) / COURTS;
+
+            // La ronda ocupa los turnos justos desde que terminó la anterior y ninguno excede las canchas
+            assertThat(bySlot).hasSize(slotsNeeded);
+            assertThat(bySlot.keySet().iterator().next()).isEqualTo(roundStart);
+
+            for (List<Match> slot : bySlot.values()) {
+                assertThat(slot.size()).isLessThanOrEqualTo(COURTS);
+                assertThat(slot).extracting(Match::getCourt).doesNotHaveDuplicates().allMatch(court -> court >= 1 && court <= COURTS);
+                assertThat(pairIds(slot)).doesNotHaveDuplicates();
+            }
+
+            roundStart = roundStart.plusMinutes((long) slotsNeeded * SLOT_MINUTES);
+        }
+
+        assertThat(end).isEqualTo(roundStart);
+    }
+
+    private List<UUID> pairIds(List<Match> matches) {
+        return matches.stream()
+                .flatMap(match -> Stream.of(match.getPair1().getId(), match.getPair2().getId()))
+                .toList();
+    }
+
+    private List<Pair> buildPairs(int count) {
+        List<Pair> pairs = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            pairs.add(Pair.builder()
+                    .id(UUID.randomUUID())
+                    .teamName("Pair " + i)
+                    .build());
+        }
+        return pairs;
+    }
+}